@@ -0,0 +1,129 @@
+package com.kb_card.card.service;
+
+import com.kb_card.card.dto.BillDetailInfoView;
+import com.kb_card.card.dto.BillInfoView;
+import com.kb_card.card.dto.CardInfoView;
+import com.kb_card.card.dto.TransactionInfoView;
+import com.kb_card.card.entity.Card;
+import com.kb_card.card.entity.CardProduct;
+import com.kb_card.card.entity.CardTransaction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 고정 데이터
+ * 실행마다 결과가 같도록 고정 seed 로 생성한다.
+ */
+final class BenchmarkFixtures {
+
+    private static final long SEED = 20240601L;
+
+    private static final String[] MERCHANTS = {
+            "GS칼텍스 강남주유소", "스타벅스 역삼점", "한국도로공사", "이마트24", "카센터",
+            "교보문고 광화문점", "CU", "서울주차장", "배달의민족", "쿠팡"
+    };
+
+    private BenchmarkFixtures() {
+    }
+
+    static CardProduct cardProduct() {
+        return CardProduct.builder()
+                .productCode("KB001")
+                .productName("KB국민 My WE:SH 카드")
+                .cardType(CardProduct.CardType.CREDIT)
+                .annualFee(BigDecimal.valueOf(15000))
+                .build();
+    }
+
+    static Card card(long id, CardProduct product) {
+        return Card.builder()
+                .id(id)
+                .cardNo(String.format("9410%012d", id))
+                .cardProduct(product)
+                .issueDate(LocalDate.of(2023, 12, 1))
+                .expireDate(LocalDate.of(2028, 12, 31))
+                .build();
+    }
+
+    static CardInfoView cardInfo(Card card) {
+        return new CardInfoView(card.getId(), card.getCardNo(), card.getCardProduct().getProductCode());
+    }
+
+    /**
+     * 상품코드별 카드 이미지 (서비스에서 상품별로 한 번 조회하는 맵과 동일한 형태)
+     */
+    static Map<String, String> cardImages(CardProduct product) {
+        // 실제 상품 이미지(LOB)와 비슷한 크기의 base64 문자열
+        byte[] image = new byte[8 * 1024];
+        new SplittableRandom(SEED).nextBytes(image);
+        return Map.of(product.getProductCode(), Base64.getEncoder().encodeToString(image));
+    }
+
+    static List<TransactionInfoView> transactions(int size) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<TransactionInfoView> transactions = new ArrayList<>(size);
+        LocalDate date = LocalDate.of(2024, 6, 30);
+        for (int i = 0; i < size; i++) {
+            transactions.add(new TransactionInfoView(
+                    (long) i + 1,
+                    String.format("TXN%013d", i),
+                    date.minusDays(i / 10),
+                    LocalTime.ofSecondOfDay(random.nextInt(86_400)),
+                    MERCHANTS[random.nextInt(MERCHANTS.length)],
+                    String.format("%010d", random.nextLong(10_000_000_000L)),
+                    BigDecimal.valueOf(random.nextInt(1_000, 300_000)),
+                    CardTransaction.TransactionType.APPROVAL,
+                    CardTransaction.TransactionCategory.values()[
+                            random.nextInt(CardTransaction.TransactionCategory.values().length)],
+                    null));
+        }
+        return transactions;
+    }
+
+    static List<BillInfoView> bills(int size, Card card) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<BillInfoView> bills = new ArrayList<>(size);
+        LocalDate month = LocalDate.of(2024, 6, 1);
+        for (int i = 0; i < size; i++) {
+            String chargeMonth = month.minusMonths(i).toString().substring(0, 7).replace("-", "");
+            bills.add(new BillInfoView(
+                    chargeMonth,
+                    "0001",
+                    card.getId(),
+                    card.getCardProduct().getProductCode(),
+                    BigDecimal.valueOf(random.nextInt(10_000, 3_000_000)),
+                    "25",
+                    CardBillService.calculateSettlementDate(chargeMonth, "25"),
+                    "01"));
+        }
+        return bills;
+    }
+
+    static List<BillDetailInfoView> billDetails(int size, Card card) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<BillDetailInfoView> details = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            details.add(new BillDetailInfoView(
+                    String.valueOf(card.getId()),
+                    card.getCardProduct().getProductCode(),
+                    "202406" + String.format("%02d", 1 + i % 30),
+                    String.format("%06d", random.nextInt(235_959)),
+                    BigDecimal.valueOf(random.nextInt(1_000, 300_000)),
+                    CardBillService.maskMerchantName(MERCHANTS[random.nextInt(MERCHANTS.length)]),
+                    BigDecimal.ZERO,
+                    "01"));
+        }
+        return details;
+    }
+
+    static String[] merchantNames() {
+        return MERCHANTS.clone();
+    }
+}
@@ -0,0 +1,53 @@
+package com.kb_card.card.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 청구서 반영 시 문자열 처리 벤치마크 (가맹점명 마스킹, 결제예정일 계산)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CardBillServiceBenchmark {
+
+    private static final String[] CHARGE_MONTHS = {"202401", "202402", "202406", "202412"};
+    private static final String[] SETTLEMENT_DAYS = {"1", "14", "25", "31"};
+
+    private String[] merchantNames;
+
+    @Setup
+    public void setUp() {
+        merchantNames = BenchmarkFixtures.merchantNames();
+    }
+
+    @Benchmark
+    public void maskMerchantName(Blackhole blackhole) {
+        for (String merchantName : merchantNames) {
+            blackhole.consume(CardBillService.maskMerchantName(merchantName));
+        }
+    }
+
+    @Benchmark
+    public void calculateSettlementDate(Blackhole blackhole) {
+        for (String chargeMonth : CHARGE_MONTHS) {
+            for (String settlementDay : SETTLEMENT_DAYS) {
+                blackhole.consume(CardBillService.calculateSettlementDate(chargeMonth, settlementDay));
+            }
+        }
+    }
+}
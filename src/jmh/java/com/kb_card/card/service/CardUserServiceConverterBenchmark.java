@@ -0,0 +1,96 @@
+package com.kb_card.card.service;
+
+import com.kb_card.card.dto.BillDetailInfoView;
+import com.kb_card.card.dto.BillInfoView;
+import com.kb_card.card.dto.CardBillDetailResponse;
+import com.kb_card.card.dto.CardBillsResponse;
+import com.kb_card.card.dto.CardInfoView;
+import com.kb_card.card.dto.CardListResponse;
+import com.kb_card.card.dto.CardTransactionResponse;
+import com.kb_card.card.dto.TransactionInfoView;
+import com.kb_card.card.entity.Card;
+import com.kb_card.card.entity.CardProduct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KFTC 응답 변환(엔티티 → DTO) 벤치마크
+ * 한 번의 조회 응답을 만드는 비용을 목록 크기별로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CardUserServiceConverterBenchmark {
+
+    /**
+     * 거래내역 한 페이지(20), 청구 상세 평균/최대 건수
+     */
+    @Param({"20", "100", "500"})
+    private int listSize;
+
+    private Card card;
+    private CardInfoView cardInfo;
+    private Map<String, String> cardImages;
+    private List<TransactionInfoView> transactions;
+    private List<BillInfoView> bills;
+    private List<BillDetailInfoView> billDetails;
+
+    @Setup
+    public void setUp() {
+        CardProduct product = BenchmarkFixtures.cardProduct();
+        card = BenchmarkFixtures.card(1L, product);
+        cardImages = BenchmarkFixtures.cardImages(product);
+        cardInfo = BenchmarkFixtures.cardInfo(card);
+        transactions = BenchmarkFixtures.transactions(listSize);
+        bills = BenchmarkFixtures.bills(listSize, card);
+        billDetails = BenchmarkFixtures.billDetails(listSize, card);
+    }
+
+    @Benchmark
+    public List<CardTransactionResponse.TransactionInfo> convertToTransactionInfo() {
+        return transactions.stream()
+                .map(CardUserService::convertToTransactionInfo)
+                .toList();
+    }
+
+    @Benchmark
+    public List<CardBillsResponse.BillInfo> convertToBillInfo() {
+        return bills.stream()
+                .map(bill -> CardUserService.convertToBillInfo(bill, cardImages))
+                .toList();
+    }
+
+    @Benchmark
+    public List<CardBillDetailResponse.BillDetailInfo> convertToBillDetailInfo() {
+        return billDetails.stream()
+                .map(billDetail -> CardUserService.convertToBillDetailInfo(billDetail, cardImages))
+                .toList();
+    }
+
+    @Benchmark
+    public CardListResponse.CardInfo convertToCardInfo() {
+        return CardUserService.convertToCardInfo(cardInfo, card.getCardProduct(),
+                "/v2.0/cards/images/KB001?v=0123456789ab");
+    }
+
+    @Benchmark
+    public String maskCardNumber() {
+        return CardUserService.maskCardNumber(card.getCardNo());
+    }
+}
@@ -0,0 +1,101 @@
+package com.kb_card.card.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kb_card.card.dto.CardBillsResponse;
+import com.kb_card.card.dto.CardTransactionResponse;
+import com.kb_card.card.entity.Card;
+import com.kb_card.card.entity.CardProduct;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KFTC 응답 JSON 직렬화 벤치마크
+ * 변환이 끝난 응답 DTO 를 바이트 배열로 쓰는 비용만 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KftcResponseSerializationBenchmark {
+
+    @Param({"20", "100", "500"})
+    private int listSize;
+
+    private ObjectMapper objectMapper;
+    private CardTransactionResponse transactionResponse;
+    private CardBillsResponse billsResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        CardProduct product = BenchmarkFixtures.cardProduct();
+        Card card = BenchmarkFixtures.card(1L, product);
+        Map<String, String> cardImages = BenchmarkFixtures.cardImages(product);
+
+        List<CardTransactionResponse.TransactionInfo> tranList = BenchmarkFixtures.transactions(listSize)
+                .stream()
+                .map(CardUserService::convertToTransactionInfo)
+                .toList();
+        transactionResponse = CardTransactionResponse.builder()
+                .apiTranId("2ffd133a-d17a-431d-a")
+                .apiTranDtm("20240630123456789")
+                .rspCode("A0000")
+                .rspMessage("")
+                .bankTranId("F123456789U4BC34239Z")
+                .bankTranDate("20240630")
+                .bankCodeTran("381")
+                .bankRspCode("000")
+                .bankRspMessage("")
+                .nextPageYn("N")
+                .beforInquiryTraceInfo("")
+                .tranCnt(String.valueOf(tranList.size()))
+                .tranList(tranList)
+                .build();
+
+        List<CardBillsResponse.BillInfo> billList = BenchmarkFixtures.bills(listSize, card)
+                .stream()
+                .map(bill -> CardUserService.convertToBillInfo(bill, cardImages))
+                .toList();
+        billsResponse = CardBillsResponse.builder()
+                .apiTranId("2ffd133a-d17a-431d-a")
+                .apiTranDtm("20240630123456789")
+                .rspCode("A0000")
+                .rspMessage("")
+                .bankTranId("F123456789U4BC34239Z")
+                .bankTranDate("20240630")
+                .bankCodeTran("381")
+                .bankRspCode("000")
+                .bankRspMessage("")
+                .nextPageYn("N")
+                .beforInquiryTraceInfo("")
+                .billCnt(String.valueOf(billList.size()))
+                .billList(billList)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serializeCardTransactionResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(transactionResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeCardBillsResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(billsResponse);
+    }
+}
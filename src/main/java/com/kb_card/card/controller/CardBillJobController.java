@@ -0,0 +1,46 @@
+package com.kb_card.card.controller;
+
+import com.kb_card.card.dto.CardBillJobPartitionResponse;
+import com.kb_card.card.dto.CardBillJobRunResponse;
+import com.kb_card.card.entity.CardBillJobPartition;
+import com.kb_card.card.service.CardBillJobRunner;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/bill-jobs")
+@RequiredArgsConstructor
+public class CardBillJobController {
+
+    private static final int MAX_RUN_LIMIT = 200;
+
+    private final CardBillJobRunner cardBillJobRunner;
+
+    @GetMapping("/runs")
+    @Operation(summary = "청구서 작업 실행 이력", description = "월 청구서 생성/확정 작업의 인스턴스별 실행 이력과 처리량(건/초)을 최근 순으로 조회합니다.")
+    public ResponseEntity<List<CardBillJobRunResponse>> getRuns(
+            @RequestParam(required = false) CardBillJobPartition.JobType jobType,
+            @RequestParam(required = false) String chargeMonth,
+            @RequestParam(defaultValue = "20") int limit) {
+        log.info("청구서 작업 실행 이력 조회 - jobType: {}, chargeMonth: {}, limit: {}", jobType, chargeMonth, limit);
+
+        int pageSize = Math.min(Math.max(limit, 1), MAX_RUN_LIMIT);
+        return ResponseEntity.ok(cardBillJobRunner.getRuns(jobType, chargeMonth, pageSize));
+    }
+
+    @GetMapping("/partitions/{jobType}/{chargeMonth}")
+    @Operation(summary = "청구서 작업 파티션 현황", description = "작업/청구월의 파티션별 상태, 체크포인트, 처리 건수를 조회합니다.")
+    public ResponseEntity<List<CardBillJobPartitionResponse>> getPartitions(
+            @PathVariable CardBillJobPartition.JobType jobType,
+            @PathVariable String chargeMonth) {
+        log.info("청구서 작업 파티션 현황 조회 - jobType: {}, chargeMonth: {}", jobType, chargeMonth);
+
+        return ResponseEntity.ok(cardBillJobRunner.getPartitions(jobType, chargeMonth));
+    }
+}
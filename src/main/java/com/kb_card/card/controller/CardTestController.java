@@ -81,7 +81,7 @@ public class CardTestController {
                     "💰 금액: %s원\n" +
                     "🏪 가맹점: %s\n" +
                     "⏰ 시간: %s %s\n\n" +
-                    "청구서에 자동 반영되었습니다!", 
+                    "청구서 반영 대기열에 등록되었습니다!", 
                     transaction.getTransactionId(),
                     transaction.getCardNo(),
                     transaction.getApprovedAmt(),
@@ -1,14 +1,33 @@
 package com.kb_card.card.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kb_card.card.dto.BulkIngestResult;
+import com.kb_card.card.dto.BulkIngestSummary;
 import com.kb_card.card.entity.CardTransaction;
+import com.kb_card.card.service.CardApprovalService;
+import com.kb_card.card.service.CardTransactionBulkService;
+import com.kb_card.card.service.CardTransactionExportService;
 import com.kb_card.card.service.CardTransactionService;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
@@ -19,10 +38,17 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CardTransactionController {
     
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String CSV = "text/csv";
+    
     private final CardTransactionService cardTransactionService;
+    private final CardApprovalService cardApprovalService;
+    private final CardTransactionBulkService cardTransactionBulkService;
+    private final CardTransactionExportService cardTransactionExportService;
+    private final ObjectMapper objectMapper;
     
     @PostMapping("/create")
-    @Operation(summary = "거래 생성 (테스트용)", description = "새로운 거래를 생성하고 청구서에 자동 반영합니다.")
+    @Operation(summary = "거래 생성 (테스트용)", description = "새로운 거래를 생성하고 청구서 반영 대기열에 등록합니다.")
     public ResponseEntity<CreateTransactionResponse> createTransaction(@RequestBody CreateTransactionRequest request) {
         log.info("거래 생성 요청 - cardNo: {}, amount: {}, merchantName: {}", 
                 request.getCardNo(), request.getAmount(), request.getMerchantName());
@@ -51,12 +77,13 @@ public class CardTransactionController {
             serviceRequest.setTranDate(request.getTranDate());
             serviceRequest.setTranTime(request.getTranTime());
             serviceRequest.setTranType(CardTransaction.TransactionType.APPROVAL);
-            serviceRequest.setCategory(determineCategory(request.getMerchantName()));
+            serviceRequest.setCategory(CardTransaction.TransactionCategory.fromMerchantName(request.getMerchantName()));
             serviceRequest.setMemo(request.getMemo());
             
-            CardTransaction transaction = cardTransactionService.createTransaction(serviceRequest);
+            // DB 지연/장애 시 로컬 저널에 기록 후 응답 (DB 반영은 회복 후 재처리)
+            CardApprovalService.ApprovalResult result = cardApprovalService.approve(serviceRequest);
             
-            return ResponseEntity.ok(CreateTransactionResponse.success(transaction));
+            return ResponseEntity.ok(CreateTransactionResponse.success(result));
             
         } catch (Exception e) {
             log.error("거래 생성 실패", e);
@@ -64,6 +91,42 @@ public class CardTransactionController {
         }
     }
     
+    @PostMapping(value = "/bulk", consumes = {NDJSON, CSV}, produces = NDJSON)
+    @Operation(summary = "거래 대량 적재", description = "NDJSON 또는 CSV(cardNo,amount,merchantName,merchantRegno,tranDate,tranTime,memo) 본문을 "
+            + "스트리밍으로 읽어 승인 거래를 일괄 생성하고 청구서에 반영합니다. 줄별 처리 결과를 NDJSON 으로 응답하며 마지막 줄은 전체 요약입니다.")
+    public void bulkCreateTransactions(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        CardTransactionBulkService.Format format = MediaType.parseMediaType(request.getContentType())
+                .isCompatibleWith(MediaType.parseMediaType(CSV))
+                ? CardTransactionBulkService.Format.CSV
+                : CardTransactionBulkService.Format.NDJSON;
+        log.info("거래 대량 적재 요청 - format: {}", format);
+        
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        
+        BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        
+        // 청크가 커밋될 때마다 해당 줄 결과를 바로 내보낸다
+        BulkIngestSummary summary = cardTransactionBulkService.ingest(reader, format, results -> {
+            try {
+                for (BulkIngestResult result : results) {
+                    writeLine(writer, result);
+                }
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writeLine(writer, summary);
+        writer.flush();
+    }
+    
+    private void writeLine(Writer writer, Object value) throws IOException {
+        writer.write(objectMapper.writeValueAsString(value));
+        writer.write('\n');
+    }
+    
     @GetMapping("/list/{cardNo}")
     @Operation(summary = "카드별 거래 내역 조회", description = "특정 카드의 모든 거래 내역을 조회합니다.")
     public ResponseEntity<List<CardTransaction>> getTransactionsByCardNo(@PathVariable String cardNo) {
@@ -78,6 +141,32 @@ public class CardTransactionController {
         }
     }
     
+    @GetMapping("/export/{cardNo}")
+    @Operation(summary = "카드별 거래 내역 내보내기", description = "특정 카드의 거래 내역을 NDJSON(format=ndjson) 또는 CSV(format=csv)로 "
+            + "스트리밍합니다. fromDate, toDate(yyyy-MM-dd)를 모두 지정하면 해당 기간만 내보냅니다.")
+    public void exportTransactions(@PathVariable String cardNo,
+                                   @RequestParam(defaultValue = "ndjson") String format,
+                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+                                   HttpServletResponse response) throws IOException {
+        CardTransactionExportService.Format exportFormat = "csv".equalsIgnoreCase(format)
+                ? CardTransactionExportService.Format.CSV
+                : CardTransactionExportService.Format.NDJSON;
+        log.info("거래 내역 내보내기 요청 - cardNo: {}, format: {}, fromDate: {}, toDate: {}",
+                cardNo, exportFormat, fromDate, toDate);
+        
+        // 없는 카드는 응답을 쓰기 전에 오류 응답으로 처리
+        Long cardId = cardTransactionExportService.findCardId(cardNo);
+        boolean csv = exportFormat == CardTransactionExportService.Format.CSV;
+        response.setContentType(csv ? CSV : NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"transactions." + (csv ? "csv" : "ndjson") + "\"");
+        
+        Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        cardTransactionExportService.export(cardId, fromDate, toDate, exportFormat, writer);
+    }
+    
     @GetMapping("/list/{cardNo}/period")
     @Operation(summary = "기간별 거래 내역 조회", description = "특정 카드의 기간별 거래 내역을 조회합니다.")
     public ResponseEntity<List<CardTransaction>> getTransactionsByPeriod(
@@ -98,31 +187,6 @@ public class CardTransactionController {
         }
     }
     
-    /**
-     * 가맹점명으로 카테고리 추정
-     */
-    private CardTransaction.TransactionCategory determineCategory(String merchantName) {
-        if (merchantName == null) return CardTransaction.TransactionCategory.OTHERS;
-        
-        String name = merchantName.toLowerCase();
-        
-        if (name.contains("주유") || name.contains("gs") || name.contains("sk") || name.contains("에너지")) {
-            return CardTransaction.TransactionCategory.FUEL;
-        } else if (name.contains("통행료") || name.contains("도로공사") || name.contains("하이패스")) {
-            return CardTransaction.TransactionCategory.TOLL;
-        } else if (name.contains("주차") || name.contains("parking")) {
-            return CardTransaction.TransactionCategory.PARKING;
-        } else if (name.contains("정비") || name.contains("수리") || name.contains("카센터")) {
-            return CardTransaction.TransactionCategory.MAINTENANCE;
-        } else if (name.contains("마트") || name.contains("편의점") || name.contains("쇼핑")) {
-            return CardTransaction.TransactionCategory.SHOPPING;
-        } else if (name.contains("스타벅스") || name.contains("카페") || name.contains("음식") || name.contains("치킨")) {
-            return CardTransaction.TransactionCategory.FOOD;
-        } else {
-            return CardTransaction.TransactionCategory.OTHERS;
-        }
-    }
-    
     // DTO 클래스들
     
     public static class CreateTransactionRequest {
@@ -164,13 +228,13 @@ public class CardTransactionController {
         private String cardNo;
         private BigDecimal amount;
         
-        public static CreateTransactionResponse success(CardTransaction transaction) {
+        public static CreateTransactionResponse success(CardApprovalService.ApprovalResult result) {
             CreateTransactionResponse response = new CreateTransactionResponse();
             response.success = true;
-            response.message = "거래 생성 완료";
-            response.transactionId = transaction.getTransactionId();
-            response.cardNo = transaction.getCardNo();
-            response.amount = transaction.getApprovedAmt();
+            response.message = result.isJournaled() ? "거래 승인 완료 (DB 반영 대기)" : "거래 생성 완료";
+            response.transactionId = result.getTransactionId();
+            response.cardNo = result.getCardNo();
+            response.amount = result.getAmount();
             return response;
         }
         
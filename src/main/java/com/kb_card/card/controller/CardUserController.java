@@ -1,6 +1,7 @@
 package com.kb_card.card.controller;
 
 import com.kb_card.card.dto.*;
+import com.kb_card.card.service.CardImageService;
 import com.kb_card.card.service.CardUserService;
 import com.kb_card.common.exception.BusinessException;
 import com.kb_card.common.exception.ErrorCode;
@@ -9,9 +10,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,6 +30,7 @@ import java.util.Map;
 public class CardUserController {
     
     private final CardUserService cardUserService;
+    private final CardImageService cardImageService;
 
     // ========== 카드사 고유 서비스 ==========
     
@@ -216,6 +223,32 @@ public class CardUserController {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/cards/images/{productCode}")
+    @Operation(
+        summary = "카드 상품 이미지 조회",
+        description = "카드목록조회 응답의 card_image URL로 상품 이미지를 제공합니다. ETag/If-None-Match를 지원합니다."
+    )
+    public ResponseEntity<byte[]> getCardImage(@PathVariable String productCode) {
+        
+        return cardImageService.getImage(productCode)
+                .map(image -> {
+                    if (image.getRedirectUrl() != null) {
+                        return ResponseEntity.status(HttpStatus.FOUND)
+                                .location(URI.create(image.getRedirectUrl()))
+                                .<byte[]>build();
+                    }
+                    
+                    // If-None-Match 가 ETag 와 같으면 Spring MVC 가 본문 없이 304 로 응답한다.
+                    // 목록 응답의 URL에 내용 해시(v)가 붙어 있으므로 길게 캐시해도 변경 시 URL이 바뀐다.
+                    return ResponseEntity.ok()
+                            .eTag(image.getEtag())
+                            .cacheControl(CacheControl.maxAge(Duration.ofDays(1)).cachePublic())
+                            .contentType(MediaType.parseMediaType(image.getContentType()))
+                            .body(image.getBytes());
+                })
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+    
     @Operation(summary = "카드조회해지 (내부)", 
                description = "KFTC에서 호출하는 카드조회해지 처리")
     @PostMapping("/cards/cancel")
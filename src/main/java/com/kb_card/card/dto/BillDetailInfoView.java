@@ -0,0 +1,33 @@
+package com.kb_card.card.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 카드청구상세정보조회 응답용 청구 상세 내역 (projection)
+ */
+@Getter
+@AllArgsConstructor
+public class BillDetailInfoView {
+
+    private final String cardId;
+
+    /**
+     * 카드 상품코드 (카드 이미지 조회용)
+     */
+    private final String productCode;
+
+    private final String paidDate;
+
+    private final String paidTime;
+
+    private final BigDecimal paidAmt;
+
+    private final String merchantNameMasked;
+
+    private final BigDecimal creditFeeAmt;
+
+    private final String productType;
+}
@@ -0,0 +1,34 @@
+package com.kb_card.card.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 카드청구기본정보조회 응답용 청구서 (projection)
+ * 카드/상품 엔티티 대신 필요한 컬럼만 조회하며, 카드 이미지는 상품코드로 따로 한 번만 조회한다.
+ */
+@Getter
+@AllArgsConstructor
+public class BillInfoView {
+
+    private final String chargeMonth;
+
+    private final String settlementSeqNo;
+
+    private final Long cardId;
+
+    /**
+     * 카드 상품코드 (카드 이미지 조회용)
+     */
+    private final String productCode;
+
+    private final BigDecimal chargeAmt;
+
+    private final String settlementDay;
+
+    private final String settlementDate;
+
+    private final String creditCheckType;
+}
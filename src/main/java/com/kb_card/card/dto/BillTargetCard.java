@@ -0,0 +1,23 @@
+package com.kb_card.card.dto;
+
+import com.kb_card.card.entity.CardProduct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 청구서 생성 대상 카드 (projection)
+ */
+@Getter
+@AllArgsConstructor
+public class BillTargetCard {
+
+    /**
+     * 카드 ID
+     */
+    private final Long cardId;
+
+    /**
+     * 카드 상품 유형 (신용/체크 구분 결정용)
+     */
+    private final CardProduct.CardType cardType;
+}
@@ -0,0 +1,38 @@
+package com.kb_card.card.dto;
+
+import com.kb_card.card.entity.Card;
+import com.kb_card.card.entity.CardProduct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 대량 거래 적재 시 카드번호로 일괄 조회하는 카드 정보 (projection)
+ */
+@Getter
+@AllArgsConstructor
+public class BulkCardView {
+
+    /**
+     * 카드 ID
+     */
+    private final Long cardId;
+
+    /**
+     * 카드번호
+     */
+    private final String cardNo;
+
+    /**
+     * 카드 상태
+     */
+    private final Card.CardStatus cardStatus;
+
+    /**
+     * 카드 상품 유형 (청구서 신용/체크 구분 결정용)
+     */
+    private final CardProduct.CardType cardType;
+
+    public boolean isValidCard() {
+        return cardStatus != Card.CardStatus.CLOSED;
+    }
+}
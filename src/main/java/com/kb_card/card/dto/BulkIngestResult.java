@@ -0,0 +1,45 @@
+package com.kb_card.card.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 대량 거래 적재 줄 단위 처리 결과 (NDJSON 으로 한 줄씩 응답)
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkIngestResult {
+
+    /**
+     * 입력 줄 번호 (1부터, CSV 헤더 포함)
+     */
+    private final long line;
+
+    /**
+     * 처리 결과 (OK / ERROR)
+     */
+    private final String status;
+
+    private final String transactionId;
+
+    private final String cardNo;
+
+    /**
+     * 실패 사유
+     */
+    private final String message;
+
+    public static BulkIngestResult ok(long line, String cardNo, String transactionId) {
+        return new BulkIngestResult(line, "OK", transactionId, cardNo, null);
+    }
+
+    public static BulkIngestResult error(long line, String cardNo, String message) {
+        return new BulkIngestResult(line, "ERROR", null, cardNo, message);
+    }
+
+    public boolean isOk() {
+        return "OK".equals(status);
+    }
+}
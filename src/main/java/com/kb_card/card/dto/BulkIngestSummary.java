@@ -0,0 +1,21 @@
+package com.kb_card.card.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 대량 거래 적재 전체 결과 (줄별 결과 뒤 마지막 줄로 응답)
+ */
+@Getter
+@AllArgsConstructor
+public class BulkIngestSummary {
+
+    /**
+     * 처리한 데이터 줄 수 (빈 줄, CSV 헤더 제외)
+     */
+    private final long total;
+
+    private final long succeeded;
+
+    private final long failed;
+}
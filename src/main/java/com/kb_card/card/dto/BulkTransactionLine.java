@@ -0,0 +1,39 @@
+package com.kb_card.card.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 대량 거래 적재 입력 한 줄 (NDJSON 객체 또는 CSV 행)
+ * CSV 컬럼 순서: cardNo,amount,merchantName,merchantRegno,tranDate,tranTime,memo
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BulkTransactionLine {
+
+    private String cardNo;
+
+    private BigDecimal amount;
+
+    private String merchantName;
+
+    private String merchantRegno;
+
+    /**
+     * 거래일자 (yyyy-MM-dd, 없으면 적재일)
+     */
+    private LocalDate tranDate;
+
+    /**
+     * 거래시간 (HH:mm:ss, 없으면 적재 시각)
+     */
+    private LocalTime tranTime;
+
+    private String memo;
+}
@@ -7,7 +7,7 @@ import java.util.List;
 
 @Data
 @Builder
-public class CardBillDetailResponse {
+public class CardBillDetailResponse implements KftcResponse {
     
     /**
      * API 거래고유번호
@@ -0,0 +1,72 @@
+package com.kb_card.card.dto;
+
+import com.kb_card.card.entity.CardBillJobPartition;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@Schema(description = "월 청구서 작업 파티션 진행 현황")
+public class CardBillJobPartitionResponse {
+
+    private int partitionNo;
+
+    @Schema(description = "처리 구간 시작 (미포함)")
+    private long rangeStart;
+
+    @Schema(description = "처리 구간 끝 (포함)")
+    private long rangeEnd;
+
+    @Schema(description = "파티션 상태", example = "DONE")
+    private String status;
+
+    private String owner;
+
+    private LocalDateTime leaseUntil;
+
+    @Schema(description = "마지막 커밋 ID (재실행 시 이 다음부터 처리)")
+    private Long checkpointId;
+
+    private int processedCount;
+
+    private int chunkCount;
+
+    private int failureCount;
+
+    private String lastError;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    @Schema(description = "처리량 (건/초, 완료된 파티션만)")
+    private Double throughputPerSecond;
+
+    public static CardBillJobPartitionResponse from(CardBillJobPartition partition) {
+        Double throughput = null;
+        if (partition.getStartedAt() != null && partition.getFinishedAt() != null) {
+            long elapsedMs = Duration.between(partition.getStartedAt(), partition.getFinishedAt()).toMillis();
+            throughput = elapsedMs > 0 ? partition.getProcessedCount() * 1000.0 / elapsedMs : null;
+        }
+        return CardBillJobPartitionResponse.builder()
+                .partitionNo(partition.getPartitionNo())
+                .rangeStart(partition.getRangeStart())
+                .rangeEnd(partition.getRangeEnd())
+                .status(partition.getStatus().name())
+                .owner(partition.getOwner())
+                .leaseUntil(partition.getLeaseUntil())
+                .checkpointId(partition.getCheckpointId())
+                .processedCount(partition.getProcessedCount())
+                .chunkCount(partition.getChunkCount())
+                .failureCount(partition.getFailureCount())
+                .lastError(partition.getLastError())
+                .startedAt(partition.getStartedAt())
+                .finishedAt(partition.getFinishedAt())
+                .throughputPerSecond(throughput)
+                .build();
+    }
+}
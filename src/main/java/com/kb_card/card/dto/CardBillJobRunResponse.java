@@ -0,0 +1,68 @@
+package com.kb_card.card.dto;
+
+import com.kb_card.card.entity.CardBillJobRun;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@Schema(description = "월 청구서 작업 실행 이력")
+public class CardBillJobRunResponse {
+
+    private Long runId;
+
+    @Schema(description = "작업 유형", example = "CREATE_BILLS")
+    private String jobType;
+
+    @Schema(description = "청구년월", example = "202407")
+    private String chargeMonth;
+
+    @Schema(description = "실행 방식", example = "SCHEDULED")
+    private String triggerType;
+
+    @Schema(description = "실행 인스턴스", example = "kb-card-1:4123")
+    private String owner;
+
+    @Schema(description = "실행 상태", example = "COMPLETED")
+    private String status;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    @Schema(description = "생성/확정한 청구서 수")
+    private int processedCount;
+
+    private int completedPartitions;
+
+    private int failedPartitions;
+
+    private Long elapsedMs;
+
+    @Schema(description = "처리량 (건/초)")
+    private Double throughputPerSecond;
+
+    public static CardBillJobRunResponse from(CardBillJobRun run) {
+        Double throughput = run.getElapsedMs() != null && run.getElapsedMs() > 0
+                ? run.getProcessedCount() * 1000.0 / run.getElapsedMs()
+                : null;
+        return CardBillJobRunResponse.builder()
+                .runId(run.getId())
+                .jobType(run.getJobType().name())
+                .chargeMonth(run.getChargeMonth())
+                .triggerType(run.getTriggerType().name())
+                .owner(run.getOwner())
+                .status(run.getStatus().name())
+                .startedAt(run.getStartedAt())
+                .finishedAt(run.getFinishedAt())
+                .processedCount(run.getProcessedCount())
+                .completedPartitions(run.getCompletedPartitions())
+                .failedPartitions(run.getFailedPartitions())
+                .elapsedMs(run.getElapsedMs())
+                .throughputPerSecond(throughput)
+                .build();
+    }
+}
@@ -7,7 +7,7 @@ import java.util.List;
 
 @Data
 @Builder
-public class CardBillsResponse {
+public class CardBillsResponse implements KftcResponse {
     
     /**
      * API 거래고유번호
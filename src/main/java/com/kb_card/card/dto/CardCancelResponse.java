@@ -8,7 +8,7 @@ import lombok.Data;
 @Data
 @Builder
 @Schema(description = "카드조회해지 응답")
-public class CardCancelResponse {
+public class CardCancelResponse implements KftcResponse {
     
     @JsonProperty("api_tran_id")
     @Schema(description = "거래고유번호(API)", example = "2ffd133a-d17a-431d-a6a5")
@@ -0,0 +1,22 @@
+package com.kb_card.card.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 카드목록조회 응답용 카드 (projection)
+ * 상품명/유형은 2차 캐시의 CardProduct 에서, 카드 이미지는 조회 URL로 채운다.
+ */
+@Getter
+@AllArgsConstructor
+public class CardInfoView {
+
+    private final Long cardId;
+
+    private final String cardNo;
+
+    /**
+     * 카드 상품코드
+     */
+    private final String productCode;
+}
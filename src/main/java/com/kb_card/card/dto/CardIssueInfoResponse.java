@@ -5,7 +5,7 @@ import lombok.Data;
 
 @Data
 @Builder
-public class CardIssueInfoResponse {
+public class CardIssueInfoResponse implements KftcResponse {
     
     /**
      * API 거래고유번호
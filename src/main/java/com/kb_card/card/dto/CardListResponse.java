@@ -7,7 +7,7 @@ import java.util.List;
 
 @Data
 @Builder
-public class CardListResponse {
+public class CardListResponse implements KftcResponse {
     
     /**
      * API 거래고유번호
@@ -98,7 +98,7 @@ public class CardListResponse {
         private String cardName;
 
         /**
-         * 카드 이미지
+         * 카드 이미지 조회 URL (내용 해시 버전 포함)
          */
         private String cardImage;
         
@@ -0,0 +1,54 @@
+package com.kb_card.card.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 카드거래내역조회 직전조회추적정보 (keyset 커서)
+ * 마지막으로 응답한 거래의 (거래일자, 거래시간, id)를 36진수로 인코딩한다.
+ * 예: "jx4.1a2b3c4d5.7ps"
+ */
+@Getter
+@AllArgsConstructor
+public class CardTransactionCursor {
+
+    private static final char SEPARATOR = '.';
+    private static final int RADIX = 36;
+
+    private final LocalDate tranDate;
+    private final LocalTime tranTime;
+    private final Long id;
+
+    /**
+     * 커서를 직전조회추적정보 문자열로 변환
+     */
+    public String encode() {
+        return Long.toString(tranDate.toEpochDay(), RADIX)
+                + SEPARATOR + Long.toString(tranTime.toNanoOfDay(), RADIX)
+                + SEPARATOR + Long.toString(id, RADIX);
+    }
+
+    /**
+     * 직전조회추적정보 문자열을 커서로 변환
+     *
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static CardTransactionCursor decode(String traceInfo) {
+        String[] parts = traceInfo.trim().split("\\.");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("직전조회추적정보 형식 오류: " + traceInfo);
+        }
+
+        try {
+            return new CardTransactionCursor(
+                    LocalDate.ofEpochDay(Long.parseLong(parts[0], RADIX)),
+                    LocalTime.ofNanoOfDay(Long.parseLong(parts[1], RADIX)),
+                    Long.parseLong(parts[2], RADIX));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("직전조회추적정보 형식 오류: " + traceInfo, e);
+        }
+    }
+}
@@ -8,7 +8,7 @@ import java.util.List;
 
 @Data
 @Builder
-public class CardTransactionResponse {
+public class CardTransactionResponse implements KftcResponse {
     
     /**
      * API 거래고유번호
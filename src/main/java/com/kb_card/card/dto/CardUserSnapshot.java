@@ -0,0 +1,27 @@
+package com.kb_card.card.dto;
+
+import com.kb_card.card.entity.CardUser;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 CI 조회 결과 (projection, 캐시 저장용)
+ */
+@Getter
+@AllArgsConstructor
+public class CardUserSnapshot {
+
+    /**
+     * 카드사 내부 사용자 식별자
+     */
+    private final String userId;
+
+    /**
+     * 사용자 상태
+     */
+    private final CardUser.UserStatus status;
+
+    public boolean isWithdrawn() {
+        return status == CardUser.UserStatus.WITHDRAWN;
+    }
+}
@@ -0,0 +1,12 @@
+package com.kb_card.card.dto;
+
+/**
+ * KFTC 응답 공통 (참가기관 응답코드 조회용)
+ */
+public interface KftcResponse {
+
+    /**
+     * 참가기관 응답코드 (000, 551, 555, 556, 557, 999 등)
+     */
+    String getBankRspCode();
+}
@@ -0,0 +1,34 @@
+package com.kb_card.card.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 관리자 거래 내역 내보내기 한 건 (커서에서 읽은 컬럼만, 엔티티/지연 로딩 프록시 없이 직렬화)
+ */
+@Getter
+@AllArgsConstructor
+public class TransactionExportRow {
+
+    private final String transactionId;
+
+    private final LocalDate tranDate;
+
+    private final LocalTime tranTime;
+
+    private final String merchantName;
+
+    private final String merchantRegno;
+
+    private final BigDecimal approvedAmt;
+
+    private final String tranType;
+
+    private final String category;
+
+    private final String memo;
+}
@@ -0,0 +1,38 @@
+package com.kb_card.card.dto;
+
+import com.kb_card.card.entity.CardTransaction;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 카드거래내역조회 응답용 거래 (projection)
+ * id 는 직전조회추적정보(keyset 커서) 생성에 사용한다.
+ */
+@Getter
+@AllArgsConstructor
+public class TransactionInfoView {
+
+    private final Long id;
+
+    private final String transactionId;
+
+    private final LocalDate tranDate;
+
+    private final LocalTime tranTime;
+
+    private final String merchantName;
+
+    private final String merchantRegno;
+
+    private final BigDecimal approvedAmt;
+
+    private final CardTransaction.TransactionType tranType;
+
+    private final CardTransaction.TransactionCategory category;
+
+    private final String memo;
+}
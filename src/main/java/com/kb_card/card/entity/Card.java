@@ -10,7 +10,8 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "cards")
+@Table(name = "cards",
+        indexes = @Index(name = "idx_cards_created_at", columnList = "created_at"))
 @Getter
 @Builder
 @NoArgsConstructor
@@ -19,7 +20,8 @@ public class Card extends DateTimeEntity {
     
     @Id
     @Column(name = "card_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cards_seq")
+    @SequenceGenerator(name = "cards_seq", sequenceName = "cards_seq", allocationSize = 50)
     private Long id;
     
     /**
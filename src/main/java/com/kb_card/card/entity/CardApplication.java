@@ -11,7 +11,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "card_applications")
+@Table(name = "card_applications",
+        indexes = @Index(
+                name = "idx_card_applications_status_date",
+                columnList = "application_status, application_date"))
 @Getter
 @Builder
 @NoArgsConstructor
@@ -19,7 +22,8 @@ import java.time.LocalDateTime;
 public class CardApplication extends DateTimeEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "card_applications_seq")
+    @SequenceGenerator(name = "card_applications_seq", sequenceName = "card_applications_seq", allocationSize = 50)
     private Long id;
     
     /**
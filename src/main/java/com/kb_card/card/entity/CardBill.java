@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -13,7 +14,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "card_bills")
+@Table(name = "card_bills",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_card_bills_card_month_seq",
+                columnNames = {"card_id", "charge_month", "settlement_seq_no"}),
+        indexes = {
+                @Index(name = "idx_card_bills_card_month_status", columnList = "card_id, charge_month, bill_status"),
+                @Index(name = "idx_card_bills_month_status_id", columnList = "charge_month, bill_status, id")
+        })
 @Getter
 @Builder
 @NoArgsConstructor
@@ -21,7 +29,8 @@ import java.util.List;
 public class CardBill extends DateTimeEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "card_bills_seq")
+    @SequenceGenerator(name = "card_bills_seq", sequenceName = "card_bills_seq", allocationSize = 50)
     private Long id;
     
     /**
@@ -88,6 +97,14 @@ public class CardBill extends DateTimeEntity {
     @Column(name = "closed_at")
     private LocalDate closedAt;
     
+    /**
+     * 낙관적 잠금 버전 (청구금액 증감 UPDATE 시에도 함께 증가)
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
     /**
      * 청구서 상세 내역들
      */
@@ -103,7 +120,8 @@ public class CardBill extends DateTimeEntity {
     }
     
     /**
-     * 청구서에 상세 내역 추가 및 총액 업데이트
+     * 청구서에 상세 내역 추가 및 총액 업데이트 (메모리 내 계산)
+     * 동시 승인 환경의 청구서 반영은 CardBillRepository.addChargeAmt 를 사용한다.
      */
     public void addBillDetail(CardBillDetail detail) {
         this.billDetails.add(detail);
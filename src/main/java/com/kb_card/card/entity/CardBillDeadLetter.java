@@ -0,0 +1,68 @@
+package com.kb_card.card.entity;
+
+import com.kb_card.common.domain.DateTimeEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재시도 한도를 넘겨 청구서에 반영되지 못한 거래 (dead-letter)
+ */
+@Entity
+@Table(name = "card_bill_dead_letters")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardBillDeadLetter extends DateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "card_bill_dead_letters_seq")
+    @SequenceGenerator(name = "card_bill_dead_letters_seq", sequenceName = "card_bill_dead_letters_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * 거래 PK (card_transactions.id)
+     */
+    @Column(name = "card_transaction_id", nullable = false)
+    private Long cardTransactionId;
+
+    /**
+     * 거래 고유번호
+     */
+    @Column(name = "transaction_id", length = 30)
+    private String transactionId;
+
+    /**
+     * 반영 시도 횟수
+     */
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount;
+
+    /**
+     * 마지막 실패 사유
+     */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /**
+     * dead-letter 이동 시각
+     */
+    @Column(name = "failed_at", nullable = false)
+    private LocalDateTime failedAt;
+
+    public static CardBillDeadLetter of(CardBillOutbox outbox) {
+        CardTransaction transaction = outbox.getCardTransaction();
+        return CardBillDeadLetter.builder()
+                .cardTransactionId(transaction.getId())
+                .transactionId(transaction.getTransactionId())
+                .attemptCount(outbox.getAttemptCount())
+                .lastError(outbox.getLastError())
+                .failedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -10,7 +10,10 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "card_bill_details")
+@Table(name = "card_bill_details",
+        indexes = @Index(
+                name = "idx_card_bill_details_bill_paid",
+                columnList = "card_bill_id, paid_date, paid_time"))
 @Getter
 @Builder
 @NoArgsConstructor
@@ -18,7 +21,8 @@ import java.math.BigDecimal;
 public class CardBillDetail extends DateTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "card_bill_details_seq")
+    @SequenceGenerator(name = "card_bill_details_seq", sequenceName = "card_bill_details_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
     
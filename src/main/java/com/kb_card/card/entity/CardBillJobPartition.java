@@ -0,0 +1,147 @@
+package com.kb_card.card.entity;
+
+import com.kb_card.common.domain.DateTimeEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 월 청구서 작업 파티션 (DB 임대 테이블)
+ * 작업 대상 ID 구간을 파티션으로 나누고, 각 인스턴스의 워커가 조건부 UPDATE 로 파티션을 임대(claim)해 처리한다.
+ * 임대 시각이 지난 RUNNING 파티션은 처리 중이던 인스턴스가 죽은 것으로 보고 다른 워커가 다시 임대할 수 있다.
+ * 청크가 커밋될 때마다 체크포인트(마지막 ID)와 처리 건수를 기록하므로 재실행 시 중단 지점부터 이어서 처리한다.
+ */
+@Entity
+@Table(name = "card_bill_job_partitions",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_card_bill_job_partitions",
+                columnNames = {"job_type", "charge_month", "partition_no"}))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardBillJobPartition extends DateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "card_bill_job_partitions_seq")
+    @SequenceGenerator(name = "card_bill_job_partitions_seq", sequenceName = "card_bill_job_partitions_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * 작업 유형
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", nullable = false, length = 20)
+    private JobType jobType;
+
+    /**
+     * 대상 청구년월 (YYYYMM)
+     */
+    @Column(name = "charge_month", nullable = false, length = 6)
+    private String chargeMonth;
+
+    /**
+     * 파티션 번호 (0부터)
+     */
+    @Column(name = "partition_no", nullable = false)
+    private int partitionNo;
+
+    /**
+     * 처리 구간 시작 (미포함)
+     */
+    @Column(name = "range_start", nullable = false)
+    private long rangeStart;
+
+    /**
+     * 처리 구간 끝 (포함)
+     */
+    @Column(name = "range_end", nullable = false)
+    private long rangeEnd;
+
+    /**
+     * 파티션 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private PartitionStatus status = PartitionStatus.PENDING;
+
+    /**
+     * 임대한 인스턴스 (host:pid)
+     */
+    @Column(name = "owner", length = 100)
+    private String owner;
+
+    /**
+     * 임대 만료 시각 (청크마다 연장)
+     */
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    /**
+     * 마지막으로 커밋된 청크의 마지막 ID (재실행 시 이 다음부터 처리)
+     */
+    @Column(name = "checkpoint_id")
+    private Long checkpointId;
+
+    /**
+     * 처리 건수 (생성/확정된 청구서 수, 청크 커밋마다 누적)
+     */
+    @Column(name = "processed_count", nullable = false)
+    @Builder.Default
+    private int processedCount = 0;
+
+    /**
+     * 커밋된 청크 수
+     */
+    @Column(name = "chunk_count", nullable = false)
+    @Builder.Default
+    private int chunkCount = 0;
+
+    /**
+     * 처리 실패 횟수
+     */
+    @Column(name = "failure_count", nullable = false)
+    @Builder.Default
+    private int failureCount = 0;
+
+    /**
+     * 마지막 실패 사유
+     */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /**
+     * 최초 임대 시각
+     */
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    /**
+     * 완료 시각
+     */
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    /**
+     * 처리 시작 위치 (체크포인트가 있으면 그 다음부터)
+     */
+    public long resumeFrom() {
+        return checkpointId != null ? Math.max(checkpointId, rangeStart) : rangeStart;
+    }
+
+    public enum JobType {
+        CREATE_BILLS,   // 월 청구서 생성 (카드 ID 구간)
+        CLOSE_BILLS     // 이전 달 청구서 확정 (청구서 ID 구간)
+    }
+
+    public enum PartitionStatus {
+        PENDING,        // 대기
+        RUNNING,        // 처리 중 (임대됨)
+        DONE            // 완료
+    }
+}
@@ -0,0 +1,130 @@
+package com.kb_card.card.entity;
+
+import com.kb_card.common.domain.DateTimeEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 월 청구서 작업 실행 이력 (인스턴스별 실행 1건)
+ */
+@Entity
+@Table(name = "card_bill_job_runs")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardBillJobRun extends DateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "card_bill_job_runs_seq")
+    @SequenceGenerator(name = "card_bill_job_runs_seq", sequenceName = "card_bill_job_runs_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * 작업 유형
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", nullable = false, length = 20)
+    private CardBillJobPartition.JobType jobType;
+
+    /**
+     * 대상 청구년월 (YYYYMM)
+     */
+    @Column(name = "charge_month", nullable = false, length = 6)
+    private String chargeMonth;
+
+    /**
+     * 실행 방식
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "trigger_type", nullable = false, length = 20)
+    private TriggerType triggerType;
+
+    /**
+     * 실행 인스턴스 (host:pid)
+     */
+    @Column(name = "owner", length = 100)
+    private String owner;
+
+    /**
+     * 실행 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private RunStatus status = RunStatus.RUNNING;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    /**
+     * 이 실행에서 생성/확정한 청구서 수
+     */
+    @Column(name = "processed_count", nullable = false)
+    @Builder.Default
+    private int processedCount = 0;
+
+    /**
+     * 이 실행에서 완료한 파티션 수
+     */
+    @Column(name = "completed_partitions", nullable = false)
+    @Builder.Default
+    private int completedPartitions = 0;
+
+    /**
+     * 이 실행에서 실패한 파티션 수
+     */
+    @Column(name = "failed_partitions", nullable = false)
+    @Builder.Default
+    private int failedPartitions = 0;
+
+    /**
+     * 소요 시간 (ms)
+     */
+    @Column(name = "elapsed_ms")
+    private Long elapsedMs;
+
+    public enum TriggerType {
+        SCHEDULED,      // 스케줄러
+        MANUAL          // 수동 실행 (완료된 작업이면 처음부터 다시 실행)
+    }
+
+    public enum RunStatus {
+        RUNNING,        // 실행 중
+        COMPLETED,      // 완료
+        FAILED          // 중단 또는 일부 파티션 실패 (재실행 시 체크포인트부터 이어서 처리)
+    }
+
+    public static CardBillJobRun start(CardBillJobPartition.JobType jobType, String chargeMonth,
+                                       TriggerType triggerType, String owner) {
+        return CardBillJobRun.builder()
+                .jobType(jobType)
+                .chargeMonth(chargeMonth)
+                .triggerType(triggerType)
+                .owner(owner)
+                .startedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 실행 종료 기록
+     *
+     * @param aborted 파티션 처리 전 오류로 중단된 경우
+     */
+    public void finish(int processedCount, int completedPartitions, int failedPartitions, boolean aborted, long elapsedMs) {
+        this.processedCount = processedCount;
+        this.completedPartitions = completedPartitions;
+        this.failedPartitions = failedPartitions;
+        this.elapsedMs = elapsedMs;
+        this.finishedAt = LocalDateTime.now();
+        this.status = aborted || failedPartitions > 0 ? RunStatus.FAILED : RunStatus.COMPLETED;
+    }
+}
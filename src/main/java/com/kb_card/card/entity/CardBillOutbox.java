@@ -0,0 +1,70 @@
+package com.kb_card.card.entity;
+
+import com.kb_card.common.domain.DateTimeEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 청구서 반영 대기 (transactional outbox)
+ * 거래 저장과 같은 트랜잭션에서 기록되고, 청구서 반영이 끝나면 삭제된다.
+ */
+@Entity
+@Table(name = "card_bill_outbox")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardBillOutbox extends DateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "card_bill_outbox_seq")
+    @SequenceGenerator(name = "card_bill_outbox_seq", sequenceName = "card_bill_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * 반영 대상 거래 (FK to CardTransaction)
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "card_transaction_id", nullable = false)
+    private CardTransaction cardTransaction;
+
+    /**
+     * 반영 시도 횟수
+     */
+    @Column(name = "attempt_count", nullable = false)
+    @Builder.Default
+    private int attemptCount = 0;
+
+    /**
+     * 다음 반영 시도 가능 시각
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 마지막 실패 사유
+     */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public static CardBillOutbox of(CardTransaction transaction) {
+        return CardBillOutbox.builder()
+                .cardTransaction(transaction)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 반영 실패 기록 및 재시도 시각 설정
+     */
+    public void markFailed(String error, LocalDateTime nextAttemptAt) {
+        this.attemptCount++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
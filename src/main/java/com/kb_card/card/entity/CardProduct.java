@@ -6,11 +6,20 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 
+/**
+ * 카드 상품 (참조 데이터)
+ * 거의 변경되지 않으므로 2차 캐시(cardProduct 영역)에 보관하여 카드/청구서 조회 시 조인 없이 캐시에서 읽는다.
+ * 상품 이미지(LOB)는 캐시 항목에 실리지 않도록 CardProductImage 로 분리되어 있다.
+ */
 @Entity
 @Table(name = "card_products")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "cardProduct")
 @Getter
 @Builder
 @NoArgsConstructor
@@ -29,13 +38,6 @@ public class CardProduct extends DateTimeEntity {
     @Column(name = "product_name", nullable = false, length = 50)
     private String productName;
 
-    /**
-     * 카드 이미지
-     */
-    @Lob
-    @Column(name = "card_image")
-    private String cardImage;
-    
     /**
      * 카드 유형
      */
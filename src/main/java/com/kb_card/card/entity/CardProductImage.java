@@ -0,0 +1,36 @@
+package com.kb_card.card.entity;
+
+import com.kb_card.common.domain.DateTimeEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카드 상품 이미지
+ * 2차 캐시 대상인 CardProduct 에 LOB 가 실려 캐시 항목마다 이미지가 복사되지 않도록 별도 테이블로 분리한다.
+ * 이미지는 CardImageService 가 상품별 바이트 캐시로 보관하므로 2차 캐시에 넣지 않는다.
+ * 상품 이미지 등록/변경은 이 테이블에 한다. (card_products.card_image 는 V6 에서 삭제)
+ */
+@Entity
+@Table(name = "card_product_images")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardProductImage extends DateTimeEntity {
+    /**
+     * 카드 상품 코드 (card_products.product_code)
+     */
+    @Id
+    @Column(name = "product_code", nullable = false, length = 10)
+    private String productCode;
+
+    /**
+     * 카드 이미지 (data URI, base64 문자열 또는 외부 URL)
+     */
+    @Lob
+    @Column(name = "card_image")
+    private String cardImage;
+}
@@ -0,0 +1,72 @@
+package com.kb_card.card.entity;
+
+import com.kb_card.common.domain.DateTimeEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 카드별 일자/카테고리/거래구분 사용 집계 (롤업)
+ * 거래가 등록될 때 같은 트랜잭션에서 건수/금액이 증분 반영되며(CardSpendingRollupService),
+ * 기간 통계는 원본 거래 대신 이 테이블의 일자별 행을 합산해 계산한다.
+ */
+@Entity
+@Table(name = "card_spending_daily",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_card_spending_daily",
+                columnNames = {"card_id", "stat_date", "category", "tran_type"}))
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardSpendingDaily extends DateTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "card_spending_daily_seq")
+    @SequenceGenerator(name = "card_spending_daily_seq", sequenceName = "card_spending_daily_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * 카드 정보 (FK to Card)
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "card_id", nullable = false)
+    private Card card;
+
+    /**
+     * 집계 일자 (거래 날짜)
+     */
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    /**
+     * 거래 카테고리 (카테고리 없는 거래는 OTHERS 로 집계)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", nullable = false, length = 20)
+    private CardTransaction.TransactionCategory category;
+
+    /**
+     * 거래구분
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tran_type", nullable = false, length = 20)
+    private CardTransaction.TransactionType tranType;
+
+    /**
+     * 거래 건수
+     */
+    @Column(name = "tran_count", nullable = false)
+    private long tranCount;
+
+    /**
+     * 승인금액 합계
+     */
+    @Column(name = "amount_sum", nullable = false, precision = 17, scale = 2)
+    private BigDecimal amountSum;
+}
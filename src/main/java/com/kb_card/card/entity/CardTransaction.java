@@ -12,7 +12,10 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "card_transactions")
+@Table(name = "card_transactions",
+        indexes = @Index(
+                name = "idx_card_transactions_card_date",
+                columnList = "card_id, tran_date, tran_time, id"))
 @Getter
 @Builder
 @NoArgsConstructor
@@ -20,7 +23,8 @@ import java.time.LocalTime;
 public class CardTransaction extends DateTimeEntity {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "card_transactions_seq")
+    @SequenceGenerator(name = "card_transactions_seq", sequenceName = "card_transactions_seq", allocationSize = 50)
     private Long id;
     
     /**
@@ -108,7 +112,32 @@ public class CardTransaction extends DateTimeEntity {
         MAINTENANCE,    // 정비
         SHOPPING,       // 쇼핑
         FOOD,           // 음식
-        OTHERS          // 기타
+        OTHERS;         // 기타
+        
+        /**
+         * 가맹점명으로 카테고리 추정
+         */
+        public static TransactionCategory fromMerchantName(String merchantName) {
+            if (merchantName == null) return OTHERS;
+            
+            String name = merchantName.toLowerCase();
+            
+            if (name.contains("주유") || name.contains("gs") || name.contains("sk") || name.contains("에너지")) {
+                return FUEL;
+            } else if (name.contains("통행료") || name.contains("도로공사") || name.contains("하이패스")) {
+                return TOLL;
+            } else if (name.contains("주차") || name.contains("parking")) {
+                return PARKING;
+            } else if (name.contains("정비") || name.contains("수리") || name.contains("카센터")) {
+                return MAINTENANCE;
+            } else if (name.contains("마트") || name.contains("편의점") || name.contains("쇼핑")) {
+                return SHOPPING;
+            } else if (name.contains("스타벅스") || name.contains("카페") || name.contains("음식") || name.contains("치킨")) {
+                return FOOD;
+            } else {
+                return OTHERS;
+            }
+        }
     }
     
     public boolean isCarRelated() {
@@ -10,7 +10,8 @@ import lombok.NoArgsConstructor;
 import java.util.UUID;
 
 @Entity
-@Table(name = "card_users")
+@Table(name = "card_users",
+        indexes = @Index(name = "idx_card_users_created_at", columnList = "created_at"))
 @Getter
 @Builder
 @NoArgsConstructor
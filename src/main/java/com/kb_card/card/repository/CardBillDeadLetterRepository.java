@@ -0,0 +1,16 @@
+package com.kb_card.card.repository;
+
+import com.kb_card.card.entity.CardBillDeadLetter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CardBillDeadLetterRepository extends JpaRepository<CardBillDeadLetter, Long> {
+
+    /**
+     * 거래 고유번호로 dead-letter 조회
+     */
+    List<CardBillDeadLetter> findByTransactionId(String transactionId);
+}
@@ -1,5 +1,6 @@
 package com.kb_card.card.repository;
 
+import com.kb_card.card.dto.BillDetailInfoView;
 import com.kb_card.card.entity.CardBill;
 import com.kb_card.card.entity.CardBillDetail;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -16,14 +17,14 @@ public interface CardBillDetailRepository extends JpaRepository<CardBillDetail,
     /**
      * 청구서별 상세 내역 조회 (사용일시 기준 내림차순)
      */
-    @Query("SELECT d FROM CardBillDetail d JOIN FETCH d.cardBill b JOIN FETCH b.card c JOIN FETCH c.cardProduct " +
+    @Query("SELECT d FROM CardBillDetail d JOIN FETCH d.cardBill b JOIN FETCH b.card c " +
            "WHERE d.cardBill = :cardBill ORDER BY d.paidDate DESC, d.paidTime DESC")
     List<CardBillDetail> findByCardBillOrderByPaidDateDescPaidTimeDesc(@Param("cardBill") CardBill cardBill);
     
     /**
      * 청구서 ID로 상세 내역 조회 (사용일시 기준 내림차순)
      */
-    @Query("SELECT d FROM CardBillDetail d JOIN FETCH d.cardBill b JOIN FETCH b.card c JOIN FETCH c.cardProduct " +
+    @Query("SELECT d FROM CardBillDetail d JOIN FETCH d.cardBill b JOIN FETCH b.card c " +
            "WHERE d.cardBill.id = :cardBillId ORDER BY d.paidDate DESC, d.paidTime DESC")
     List<CardBillDetail> findByCardBillIdOrderByPaidDateDescPaidTimeDesc(@Param("cardBillId") Long cardBillId);
     
@@ -42,7 +43,7 @@ public interface CardBillDetailRepository extends JpaRepository<CardBillDetail,
      * 사용자 CI와 청구년월, 결제순번으로 상세 내역 조회
      */
     @Query("SELECT d FROM CardBillDetail d " +
-           "JOIN FETCH d.cardBill b JOIN FETCH b.card c JOIN FETCH c.cardProduct " +
+           "JOIN FETCH d.cardBill b JOIN FETCH b.card c " +
            "WHERE b.card.cardUser.userCi = :userCi " +
            "AND b.chargeMonth = :chargeMonth " +
            "AND b.settlementSeqNo = :settlementSeqNo " +
@@ -53,11 +54,29 @@ public interface CardBillDetailRepository extends JpaRepository<CardBillDetail,
             @Param("settlementSeqNo") String settlementSeqNo
     );
     
+    /**
+     * 사용자 CI와 청구년월, 결제순번으로 상세 내역 응답 컬럼만 조회 (KFTC 조회용)
+     * 카드 이미지(LOB)는 포함하지 않으며 영속성 컨텍스트에 엔티티를 적재하지 않는다.
+     */
+    @Query("SELECT new com.kb_card.card.dto.BillDetailInfoView(" +
+           "d.cardId, c.cardProduct.productCode, d.paidDate, d.paidTime, d.paidAmt, " +
+           "d.merchantNameMasked, d.creditFeeAmt, d.productType) " +
+           "FROM CardBillDetail d JOIN d.cardBill b JOIN b.card c " +
+           "WHERE c.cardUser.userCi = :userCi " +
+           "AND b.chargeMonth = :chargeMonth " +
+           "AND b.settlementSeqNo = :settlementSeqNo " +
+           "ORDER BY d.paidDate DESC, d.paidTime DESC")
+    List<BillDetailInfoView> findBillDetailInfoViewsByUserCiAndChargeMonthAndSettlementSeqNo(
+            @Param("userCi") String userCi,
+            @Param("chargeMonth") String chargeMonth,
+            @Param("settlementSeqNo") String settlementSeqNo
+    );
+    
     /**
      * 카드별 특정 월의 상세 내역 조회
      */
     @Query("SELECT d FROM CardBillDetail d " +
-           "JOIN FETCH d.cardBill b JOIN FETCH b.card c JOIN FETCH c.cardProduct " +
+           "JOIN FETCH d.cardBill b JOIN FETCH b.card c " +
            "WHERE b.card.cardNo = :cardNo " +
            "AND b.chargeMonth = :chargeMonth " +
            "ORDER BY d.paidDate DESC, d.paidTime DESC")
@@ -0,0 +1,98 @@
+package com.kb_card.card.repository;
+
+import com.kb_card.card.entity.CardBillJobPartition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CardBillJobPartitionRepository extends JpaRepository<CardBillJobPartition, Long> {
+
+    /**
+     * 작업/청구월의 파티션 수
+     */
+    long countByJobTypeAndChargeMonth(CardBillJobPartition.JobType jobType, String chargeMonth);
+
+    /**
+     * 작업/청구월의 상태별 파티션 수
+     */
+    long countByJobTypeAndChargeMonthAndStatusNot(CardBillJobPartition.JobType jobType,
+                                                  String chargeMonth,
+                                                  CardBillJobPartition.PartitionStatus status);
+
+    /**
+     * 임대 가능한 파티션 ID 조회 (대기 중이거나 임대가 만료된 파티션, 파티션 번호 순)
+     */
+    @Query("SELECT p.id FROM CardBillJobPartition p " +
+           "WHERE p.jobType = :jobType AND p.chargeMonth = :chargeMonth " +
+           "AND (p.status = 'PENDING' OR (p.status = 'RUNNING' AND p.leaseUntil < :now)) " +
+           "ORDER BY p.partitionNo")
+    List<Long> findClaimableIds(@Param("jobType") CardBillJobPartition.JobType jobType,
+                                @Param("chargeMonth") String chargeMonth,
+                                @Param("now") LocalDateTime now);
+
+    /**
+     * 파티션 임대 (조건부 UPDATE, 다른 워커가 먼저 임대했으면 0 반환)
+     */
+    @Modifying
+    @Query("UPDATE CardBillJobPartition p SET p.status = 'RUNNING', p.owner = :owner, p.leaseUntil = :leaseUntil, " +
+           "p.startedAt = COALESCE(p.startedAt, :now) " +
+           "WHERE p.id = :id AND (p.status = 'PENDING' OR (p.status = 'RUNNING' AND p.leaseUntil < :now))")
+    int claim(@Param("id") Long id,
+              @Param("owner") String owner,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 청크 커밋 기록 (체크포인트/건수 누적 + 임대 연장, 임대를 빼앗긴 경우 0 반환)
+     */
+    @Modifying
+    @Query("UPDATE CardBillJobPartition p SET p.leaseUntil = :leaseUntil, p.checkpointId = :checkpointId, " +
+           "p.processedCount = p.processedCount + :count, p.chunkCount = p.chunkCount + 1 " +
+           "WHERE p.id = :id AND p.owner = :owner AND p.status = 'RUNNING'")
+    int checkpoint(@Param("id") Long id,
+                   @Param("owner") String owner,
+                   @Param("leaseUntil") LocalDateTime leaseUntil,
+                   @Param("checkpointId") Long checkpointId,
+                   @Param("count") int count);
+
+    /**
+     * 파티션 완료 처리
+     */
+    @Modifying
+    @Query("UPDATE CardBillJobPartition p SET p.status = 'DONE', p.leaseUntil = NULL, p.finishedAt = :now " +
+           "WHERE p.id = :id AND p.owner = :owner AND p.status = 'RUNNING'")
+    int complete(@Param("id") Long id,
+                 @Param("owner") String owner,
+                 @Param("now") LocalDateTime now);
+
+    /**
+     * 파티션 실패 처리 (대기 상태로 되돌려 다음 실행이 체크포인트부터 이어서 처리)
+     */
+    @Modifying
+    @Query("UPDATE CardBillJobPartition p SET p.status = 'PENDING', p.leaseUntil = NULL, " +
+           "p.failureCount = p.failureCount + 1, p.lastError = :error " +
+           "WHERE p.id = :id AND p.owner = :owner AND p.status = 'RUNNING'")
+    int fail(@Param("id") Long id,
+             @Param("owner") String owner,
+             @Param("error") String error);
+
+    /**
+     * 작업/청구월 파티션 진행 현황
+     */
+    List<CardBillJobPartition> findByJobTypeAndChargeMonthOrderByPartitionNo(CardBillJobPartition.JobType jobType,
+                                                                            String chargeMonth);
+
+    /**
+     * 작업/청구월 파티션 삭제 (완료된 작업을 수동으로 다시 실행할 때)
+     */
+    @Modifying
+    @Query("DELETE FROM CardBillJobPartition p WHERE p.jobType = :jobType AND p.chargeMonth = :chargeMonth")
+    int deleteByJobTypeAndChargeMonth(@Param("jobType") CardBillJobPartition.JobType jobType,
+                                      @Param("chargeMonth") String chargeMonth);
+}
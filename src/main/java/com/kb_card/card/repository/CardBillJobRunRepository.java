@@ -0,0 +1,26 @@
+package com.kb_card.card.repository;
+
+import com.kb_card.card.entity.CardBillJobPartition;
+import com.kb_card.card.entity.CardBillJobRun;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CardBillJobRunRepository extends JpaRepository<CardBillJobRun, Long> {
+
+    /**
+     * 실행 이력 조회 (최근 순, 조건이 null 이면 전체)
+     */
+    @Query("SELECT r FROM CardBillJobRun r " +
+           "WHERE (:jobType IS NULL OR r.jobType = :jobType) " +
+           "AND (:chargeMonth IS NULL OR r.chargeMonth = :chargeMonth) " +
+           "ORDER BY r.id DESC")
+    List<CardBillJobRun> findRecent(@Param("jobType") CardBillJobPartition.JobType jobType,
+                                    @Param("chargeMonth") String chargeMonth,
+                                    Pageable pageable);
+}
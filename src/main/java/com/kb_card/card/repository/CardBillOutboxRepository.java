@@ -0,0 +1,34 @@
+package com.kb_card.card.repository;
+
+import com.kb_card.card.entity.CardBillOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CardBillOutboxRepository extends JpaRepository<CardBillOutbox, Long> {
+
+    /**
+     * 반영 시각이 도래한 대기 건 ID 조회 (등록 순)
+     */
+    @Query("SELECT o.id FROM CardBillOutbox o WHERE o.nextAttemptAt <= :now ORDER BY o.id")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 대기 건 잠금 조회 (다른 워커/인스턴스가 처리 중이면 건너뜀)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT o FROM CardBillOutbox o WHERE o.id = :id")
+    Optional<CardBillOutbox> findByIdForUpdate(@Param("id") Long id);
+}
@@ -1,13 +1,18 @@
 package com.kb_card.card.repository;
 
+import com.kb_card.card.dto.BillInfoView;
 import com.kb_card.card.entity.Card;
 import com.kb_card.card.entity.CardBill;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,7 +23,7 @@ public interface CardBillRepository extends JpaRepository<CardBill, Long> {
        /**
         * 사용자 CI와 청구년월 범위로 청구서 조회 (결제년월일 기준 내림차순)
         */
-       @Query("SELECT b FROM CardBill b JOIN FETCH b.card c JOIN FETCH c.cardProduct " +
+       @Query("SELECT b FROM CardBill b JOIN FETCH b.card c " +
               "WHERE b.card.cardUser.userCi = :userCi " +
               "AND b.chargeMonth >= :fromMonth AND b.chargeMonth <= :toMonth " +
               "ORDER BY b.settlementDate DESC, b.chargeMonth DESC")
@@ -28,10 +33,27 @@ public interface CardBillRepository extends JpaRepository<CardBill, Long> {
               @Param("toMonth") String toMonth
        );
 
+       /**
+        * 사용자 CI와 청구년월 범위로 청구서 응답 컬럼만 조회 (결제년월일 기준 내림차순, KFTC 조회용)
+        * 카드 이미지(LOB)는 포함하지 않으며 영속성 컨텍스트에 엔티티를 적재하지 않는다.
+        */
+       @Query("SELECT new com.kb_card.card.dto.BillInfoView(" +
+              "b.chargeMonth, b.settlementSeqNo, c.id, c.cardProduct.productCode, b.chargeAmt, " +
+              "b.settlementDay, b.settlementDate, b.creditCheckType) " +
+              "FROM CardBill b JOIN b.card c " +
+              "WHERE c.cardUser.userCi = :userCi " +
+              "AND b.chargeMonth >= :fromMonth AND b.chargeMonth <= :toMonth " +
+              "ORDER BY b.settlementDate DESC, b.chargeMonth DESC")
+       List<BillInfoView> findBillInfoViewsByUserCiAndChargeMonthRange(
+              @Param("userCi") String userCi,
+              @Param("fromMonth") String fromMonth,
+              @Param("toMonth") String toMonth
+       );
+
        /**
         * 사용자 CI와 청구년월, 결제순번으로 청구서 조회
         */
-       @Query("SELECT b FROM CardBill b JOIN FETCH b.card c JOIN FETCH c.cardProduct " +
+       @Query("SELECT b FROM CardBill b JOIN FETCH b.card c " +
               "WHERE b.card.cardUser.userCi = :userCi " +
               "AND b.chargeMonth = :chargeMonth AND b.settlementSeqNo = :settlementSeqNo")
        Optional<CardBill> findByUserCiAndChargeMonthAndSettlementSeqNo(
@@ -43,35 +65,97 @@ public interface CardBillRepository extends JpaRepository<CardBill, Long> {
        /**
         * 카드별 현재 활성 청구서 조회 (이번 달 청구서)
         */
-       @Query("SELECT b FROM CardBill b JOIN FETCH b.card c JOIN FETCH c.cardProduct " +
+       @Query("SELECT b FROM CardBill b JOIN FETCH b.card c " +
               "WHERE b.card = :card AND b.billStatus = 'ACTIVE'")
        Optional<CardBill> findActiveCardBill(@Param("card") Card card);
 
+       /**
+        * 카드별 청구월 활성 청구서 조회 (거래일 기준 청구월 반영용)
+        */
+       @Query("SELECT b FROM CardBill b JOIN FETCH b.card c " +
+              "WHERE b.card = :card AND b.chargeMonth = :chargeMonth AND b.billStatus = 'ACTIVE'")
+       Optional<CardBill> findActiveCardBillByMonth(@Param("card") Card card, @Param("chargeMonth") String chargeMonth);
+
+       /**
+        * 카드별 청구월 청구서 존재 여부 (상태 무관)
+        */
+       @Query("SELECT COUNT(b) > 0 FROM CardBill b WHERE b.card = :card AND b.chargeMonth = :chargeMonth")
+       boolean existsByCardAndChargeMonth(@Param("card") Card card, @Param("chargeMonth") String chargeMonth);
+
+       /**
+        * 대상 카드 중 해당 청구월 청구서가 있는 카드 ID (상태 무관, 대량 적재 이월 판정용)
+        */
+       @Query("SELECT b.card.id FROM CardBill b WHERE b.card.id IN :cardIds AND b.chargeMonth = :chargeMonth")
+       List<Long> findCardIdsWithBill(@Param("cardIds") Collection<Long> cardIds,
+                                      @Param("chargeMonth") String chargeMonth);
+
        /**
         * 사용자 CI로 현재 활성 청구서 조회
         */
-       @Query("SELECT b FROM CardBill b JOIN FETCH b.card c JOIN FETCH c.cardProduct " +
+       @Query("SELECT b FROM CardBill b JOIN FETCH b.card c " +
               "WHERE b.card.cardUser.userCi = :userCi AND b.billStatus = 'ACTIVE'")
        List<CardBill> findActiveCardBillsByUserCi(@Param("userCi") String userCi);
 
        /**
         * 카드별 청구월로 청구서 조회
         */
-       @Query("SELECT b FROM CardBill b JOIN FETCH b.card c JOIN FETCH c.cardProduct " +
+       @Query("SELECT b FROM CardBill b JOIN FETCH b.card c " +
               "WHERE b.card = :card AND b.chargeMonth = :chargeMonth")
        Optional<CardBill> findByCardAndChargeMonth(@Param("card") Card card, @Param("chargeMonth") String chargeMonth);
 
        /**
         * 청구월별 모든 청구서 조회
         */
-       @Query("SELECT b FROM CardBill b JOIN FETCH b.card c JOIN FETCH c.cardProduct " +
+       @Query("SELECT b FROM CardBill b JOIN FETCH b.card c " +
               "WHERE b.chargeMonth = :chargeMonth")
        List<CardBill> findByChargeMonth(@Param("chargeMonth") String chargeMonth);
 
+       /**
+        * 카드 목록의 해당 월 활성 청구서 ID 일괄 조회 (대량 거래 적재용)
+        * 반환: [cardId(Long), billId(Long)]
+        */
+       @Query("SELECT b.card.id, b.id FROM CardBill b " +
+              "WHERE b.card.id IN :cardIds AND b.chargeMonth = :chargeMonth AND b.billStatus = 'ACTIVE'")
+       List<Object[]> findActiveBillIdsByCardIds(@Param("cardIds") Collection<Long> cardIds,
+                                                 @Param("chargeMonth") String chargeMonth);
+
+       /**
+        * 활성 청구서 청구금액 원자적 증감 (DB 측 charge_amt = charge_amt + ?)
+        * 동시 승인 시에도 갱신 손실이 없으며, 청구서가 이미 확정된 경우 0을 반환한다.
+        */
+       @Modifying
+       @Query("UPDATE CardBill b SET b.chargeAmt = b.chargeAmt + :amount, b.version = b.version + 1 " +
+              "WHERE b.id = :billId AND b.billStatus = 'ACTIVE'")
+       int addChargeAmt(@Param("billId") Long billId, @Param("amount") BigDecimal amount);
+
+       /**
+        * 청구월의 활성 청구서 ID 조회 (id 기준 keyset 청크, afterId < id <= toId)
+        */
+       @Query("SELECT b.id FROM CardBill b " +
+              "WHERE b.chargeMonth = :chargeMonth AND b.billStatus = 'ACTIVE' " +
+              "AND b.id > :afterId AND b.id <= :toId " +
+              "ORDER BY b.id")
+       List<Long> findActiveBillIds(@Param("afterId") Long afterId,
+                                    @Param("toId") Long toId,
+                                    @Param("chargeMonth") String chargeMonth,
+                                    Pageable pageable);
+
+       /**
+        * 청구월 활성 청구서 ID 최소값 (청구서 작업 파티션 구간 계산용)
+        */
+       @Query("SELECT MIN(b.id) FROM CardBill b WHERE b.chargeMonth = :chargeMonth AND b.billStatus = 'ACTIVE'")
+       Long findMinActiveBillId(@Param("chargeMonth") String chargeMonth);
+
+       /**
+        * 청구월 활성 청구서 ID 최대값 (청구서 작업 파티션 구간 계산용)
+        */
+       @Query("SELECT MAX(b.id) FROM CardBill b WHERE b.chargeMonth = :chargeMonth AND b.billStatus = 'ACTIVE'")
+       Long findMaxActiveBillId(@Param("chargeMonth") String chargeMonth);
+
        /**
         * 청구월과 상태별 청구서 조회
         */
-       @Query("SELECT b FROM CardBill b JOIN FETCH b.card c JOIN FETCH c.cardProduct " +
+       @Query("SELECT b FROM CardBill b JOIN FETCH b.card c " +
               "WHERE b.chargeMonth = :chargeMonth AND b.billStatus = :billStatus")
        List<CardBill> findByChargeMonthAndBillStatus(
                @Param("chargeMonth") String chargeMonth,
@@ -0,0 +1,28 @@
+package com.kb_card.card.repository;
+
+import com.kb_card.card.entity.CardProductImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CardProductImageRepository extends JpaRepository<CardProductImage, String> {
+
+    /**
+     * 상품코드로 카드 이미지만 조회
+     */
+    @Query("SELECT i.cardImage FROM CardProductImage i WHERE i.productCode = :productCode")
+    Optional<String> findCardImageByProductCode(@Param("productCode") String productCode);
+
+    /**
+     * 상품코드 목록으로 카드 이미지 조회
+     * 반환: [productCode(String), cardImage(String)]
+     */
+    @Query("SELECT i.productCode, i.cardImage FROM CardProductImage i WHERE i.productCode IN :productCodes")
+    List<Object[]> findCardImagesByProductCodes(@Param("productCodes") Collection<String> productCodes);
+}
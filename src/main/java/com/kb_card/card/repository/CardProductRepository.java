@@ -10,7 +10,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CardProductRepository extends JpaRepository<CardProduct, Long> {
+public interface CardProductRepository extends JpaRepository<CardProduct, String> {
     
     /**
      * 상품 코드로 카드 상품 조회
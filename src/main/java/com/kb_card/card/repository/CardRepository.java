@@ -1,14 +1,23 @@
 package com.kb_card.card.repository;
 
+import com.kb_card.card.dto.BillTargetCard;
+import com.kb_card.card.dto.BulkCardView;
+import com.kb_card.card.dto.CardInfoView;
 import com.kb_card.card.entity.Card;
 import com.kb_card.card.entity.CardUser;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CardRepository extends JpaRepository<Card, Long> {
@@ -21,51 +30,106 @@ public interface CardRepository extends JpaRepository<Card, Long> {
     /**
      * 사용자 ID로 카드 조회
      */
-    @Query("SELECT c FROM Card c JOIN FETCH c.cardProduct WHERE c.cardUser.userId = :userId")
+    @Query("SELECT c FROM Card c WHERE c.cardUser.userId = :userId")
     List<Card> findByUserId(@Param("userId") String userId);
     
     /**
      * 사용자 CI로 카드 조회 (호환성 유지)
      */
-    @Query("SELECT c FROM Card c JOIN FETCH c.cardProduct WHERE c.cardUser.userCi = :userCi")
+    @Query("SELECT c FROM Card c WHERE c.cardUser.userCi = :userCi")
     List<Card> findByUserCi(@Param("userCi") String userCi);
     
+    /**
+     * 사용자 CI로 카드목록 응답 컬럼만 조회 (KFTC 카드목록조회용)
+     * 상품 정보는 조인하지 않고 2차 캐시에서 상품코드로 조회한다.
+     */
+    @Query("SELECT new com.kb_card.card.dto.CardInfoView(c.id, c.cardNo, c.cardProduct.productCode) " +
+           "FROM Card c WHERE c.cardUser.userCi = :userCi")
+    List<CardInfoView> findCardInfoViewsByUserCi(@Param("userCi") String userCi);
+    
     /**
      * 카드번호로 카드 조회
      */
-    @Query("SELECT c FROM Card c JOIN FETCH c.cardProduct WHERE c.cardNo = :cardNo")
+    @Query("SELECT c FROM Card c WHERE c.cardNo = :cardNo")
     Optional<Card> findByCardNo(@Param("cardNo") String cardNo);
 
+    /**
+     * 카드번호 목록으로 카드 일괄 조회 (대량 거래 적재용, IN 목록은 청크 크기로 제한)
+     */
+    @Query("SELECT new com.kb_card.card.dto.BulkCardView(c.id, c.cardNo, c.cardStatus, p.cardType) " +
+           "FROM Card c LEFT JOIN c.cardProduct p WHERE c.cardNo IN :cardNos")
+    List<BulkCardView> findBulkCardViewsByCardNos(@Param("cardNos") Collection<String> cardNos);
+
     /**
      * 사용자별 유효한 카드 조회 (해지되지 않은 카드)
      */
-    @Query("SELECT c FROM Card c JOIN FETCH c.cardProduct WHERE c.cardUser.userId = :userId AND c.cardStatus != 'CLOSED'")
+    @Query("SELECT c FROM Card c WHERE c.cardUser.userId = :userId AND c.cardStatus != 'CLOSED'")
     List<Card> findValidCardsByUserId(@Param("userId") String userId);
     
     /**
      * 사용자 CI별 유효한 카드 조회 (호환성 유지)
      */
-    @Query("SELECT c FROM Card c JOIN FETCH c.cardProduct WHERE c.cardUser.userCi = :userCi AND c.cardStatus != 'CLOSED'")
+    @Query("SELECT c FROM Card c WHERE c.cardUser.userCi = :userCi AND c.cardStatus != 'CLOSED'")
     List<Card> findValidCardsByUserCi(@Param("userCi") String userCi);
     
     /**
      * 사용자별 활성 카드 조회
      */
-    @Query("SELECT c FROM Card c JOIN FETCH c.cardProduct WHERE c.cardUser.userId = :userId AND c.cardStatus = 'NORMAL'")
+    @Query("SELECT c FROM Card c WHERE c.cardUser.userId = :userId AND c.cardStatus = 'NORMAL'")
     List<Card> findActiveCardsByUserId(@Param("userId") String userId);
     
     /**
      * 사용자 CI별 활성 카드 조회 (호환성 유지)
      */
-    @Query("SELECT c FROM Card c JOIN FETCH c.cardProduct WHERE c.cardUser.userCi = :userCi AND c.cardStatus = 'NORMAL'")
+    @Query("SELECT c FROM Card c WHERE c.cardUser.userCi = :userCi AND c.cardStatus = 'NORMAL'")
     List<Card> findActiveCardsByUserCi(@Param("userCi") String userCi);
     
     /**
      * 카드 상태별 조회
      */
-    @Query("SELECT c FROM Card c JOIN FETCH c.cardProduct WHERE c.cardStatus = :cardStatus")
+    @Query("SELECT c FROM Card c WHERE c.cardStatus = :cardStatus")
     List<Card> findByCardStatus(@Param("cardStatus") Card.CardStatus cardStatus);
     
+    /**
+     * 청구서 생성 대상 카드 조회 (id 기준 keyset 청크, afterId < id <= toId)
+     * 활성 사용자의 유효한 카드 중 해당 월 청구서가 없는 카드만 조회한다. (anti-join)
+     */
+    @Query("SELECT new com.kb_card.card.dto.BillTargetCard(c.id, p.cardType) " +
+           "FROM Card c LEFT JOIN c.cardProduct p " +
+           "WHERE c.id > :afterId AND c.id <= :toId " +
+           "AND c.cardUser.status = 'ACTIVE' AND c.cardStatus != 'CLOSED' " +
+           "AND NOT EXISTS (SELECT 1 FROM CardBill b WHERE b.card = c AND b.chargeMonth = :chargeMonth) " +
+           "ORDER BY c.id")
+    List<BillTargetCard> findBillTargets(@Param("afterId") Long afterId,
+                                         @Param("toId") Long toId,
+                                         @Param("chargeMonth") String chargeMonth,
+                                         Pageable pageable);
+    
+    /**
+     * 카드 ID 최소값 (청구서 작업 파티션 구간 계산용)
+     */
+    @Query("SELECT MIN(c.id) FROM Card c")
+    Long findMinId();
+    
+    /**
+     * 카드 ID 최대값 (청구서 작업 파티션 구간 계산용)
+     */
+    @Query("SELECT MAX(c.id) FROM Card c")
+    Long findMaxId();
+    
+    /**
+     * 전체 카드번호 스트리밍 조회 (존재 여부 필터 재구성용, 트랜잭션 안에서 사용)
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT c.cardNo FROM Card c")
+    Stream<String> streamAllCardNos();
+
+    /**
+     * since 이후 등록된 카드번호 (존재 여부 필터 증분 반영용)
+     */
+    @Query("SELECT c.cardNo FROM Card c WHERE c.createdAt >= :since")
+    List<String> findCardNosCreatedSince(@Param("since") LocalDateTime since);
+    
     /**
      * 카드번호 존재 여부 확인
      */
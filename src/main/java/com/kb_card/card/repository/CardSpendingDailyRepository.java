@@ -0,0 +1,76 @@
+package com.kb_card.card.repository;
+
+import com.kb_card.card.entity.Card;
+import com.kb_card.card.entity.CardSpendingDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 카드별 일자 사용 집계 조회
+ * 기간 통계는 (카드, 일자) 인덱스 범위의 집계 행만 합산하므로 거래 건수와 무관하게 일수에 비례한다.
+ */
+@Repository
+public interface CardSpendingDailyRepository extends JpaRepository<CardSpendingDaily, Long> {
+
+    /**
+     * 카드별 기간 카테고리 통계 [category, SUM(금액)]
+     */
+    @Query("SELECT r.category, SUM(r.amountSum) " +
+           "FROM CardSpendingDaily r " +
+           "WHERE r.card = :card " +
+           "AND r.statDate >= :startDate AND r.statDate <= :endDate " +
+           "GROUP BY r.category")
+    List<Object[]> getCategoryStatisticsByCard(@Param("card") Card card,
+                                              @Param("startDate") LocalDate startDate,
+                                              @Param("endDate") LocalDate endDate);
+
+    /**
+     * 카드번호로 기간 카테고리 통계 [category, SUM(금액)]
+     */
+    @Query("SELECT r.category, SUM(r.amountSum) " +
+           "FROM CardSpendingDaily r " +
+           "WHERE r.card.cardNo = :cardNo " +
+           "AND r.statDate >= :startDate AND r.statDate <= :endDate " +
+           "GROUP BY r.category")
+    List<Object[]> getCategoryStatistics(@Param("cardNo") String cardNo,
+                                        @Param("startDate") LocalDate startDate,
+                                        @Param("endDate") LocalDate endDate);
+
+    /**
+     * 카드별 월별 카테고리 통계 [연, 월, category, SUM(건수), SUM(금액)] (연/월 오름차순)
+     */
+    @Query("SELECT EXTRACT(YEAR FROM r.statDate), EXTRACT(MONTH FROM r.statDate), r.category, " +
+           "SUM(r.tranCount), SUM(r.amountSum) " +
+           "FROM CardSpendingDaily r " +
+           "WHERE r.card = :card " +
+           "AND r.statDate >= :startDate AND r.statDate <= :endDate " +
+           "GROUP BY EXTRACT(YEAR FROM r.statDate), EXTRACT(MONTH FROM r.statDate), r.category " +
+           "ORDER BY EXTRACT(YEAR FROM r.statDate), EXTRACT(MONTH FROM r.statDate)")
+    List<Object[]> getMonthlyCategoryStatisticsByCard(@Param("card") Card card,
+                                                     @Param("startDate") LocalDate startDate,
+                                                     @Param("endDate") LocalDate endDate);
+
+    /**
+     * 카드별 기간 총 거래건수
+     */
+    @Query("SELECT COALESCE(SUM(r.tranCount), 0) FROM CardSpendingDaily r " +
+           "WHERE r.card = :card AND r.statDate BETWEEN :fromDate AND :toDate")
+    long countByCardAndDateRange(@Param("card") Card card,
+                                @Param("fromDate") LocalDate fromDate,
+                                @Param("toDate") LocalDate toDate);
+
+    /**
+     * 카드별 기간 승인금액 합계 (승인 거래가 없으면 null)
+     */
+    @Query("SELECT SUM(r.amountSum) FROM CardSpendingDaily r " +
+           "WHERE r.card = :card AND r.statDate BETWEEN :fromDate AND :toDate AND r.tranType = 'APPROVAL'")
+    BigDecimal sumApprovedAmountByCardAndDateRange(@Param("card") Card card,
+                                                  @Param("fromDate") LocalDate fromDate,
+                                                  @Param("toDate") LocalDate toDate);
+}
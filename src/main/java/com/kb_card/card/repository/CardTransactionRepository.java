@@ -1,21 +1,31 @@
 package com.kb_card.card.repository;
 
+import com.kb_card.card.dto.TransactionInfoView;
 import com.kb_card.card.entity.Card;
 import com.kb_card.card.entity.CardTransaction;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CardTransactionRepository extends JpaRepository<CardTransaction, Long> {
     
+    /**
+     * 카드거래내역조회 응답 컬럼 (TransactionInfoView 생성자 순서)
+     */
+    String TRANSACTION_INFO_COLUMNS =
+            "t.id, t.transactionId, t.tranDate, t.tranTime, t.merchantName, t.merchantRegno, " +
+            "t.approvedAmt, t.tranType, t.category, t.memo";
+    
     /**
      * 카드별 거래 내역 조회 (페이징)
      */
@@ -72,30 +82,6 @@ public interface CardTransactionRepository extends JpaRepository<CardTransaction
            "ORDER BY t.tranDate DESC, t.tranTime DESC")
     List<CardTransaction> findCarRelatedTransactions(@Param("cardNo") String cardNo);
     
-    /**
-     * 카드별 월별 거래 통계
-     */
-    @Query("SELECT t.category, SUM(t.approvedAmt) " +
-           "FROM CardTransaction t " +
-           "WHERE t.card = :card " +
-           "AND t.tranDate >= :startDate AND t.tranDate <= :endDate " +
-           "GROUP BY t.category")
-    List<Object[]> getCategoryStatisticsByCard(@Param("card") Card card, 
-                                              @Param("startDate") LocalDate startDate, 
-                                              @Param("endDate") LocalDate endDate);
-    
-    /**
-     * 카드번호로 월별 거래 통계
-     */
-    @Query("SELECT t.category, SUM(t.approvedAmt) " +
-           "FROM CardTransaction t " +
-           "WHERE t.card.cardNo = :cardNo " +
-           "AND t.tranDate >= :startDate AND t.tranDate <= :endDate " +
-           "GROUP BY t.category")
-    List<Object[]> getCategoryStatistics(@Param("cardNo") String cardNo, 
-                                        @Param("startDate") LocalDate startDate, 
-                                        @Param("endDate") LocalDate endDate);
-    
     /**
      * 거래 ID로 조회 (중복 체크용)
      */
@@ -140,6 +126,35 @@ public interface CardTransactionRepository extends JpaRepository<CardTransaction
                                                 @Param("fromDate") LocalDate fromDate, 
                                                 @Param("toDate") LocalDate toDate);
     
+    /**
+     * 카드별 날짜 범위 거래내역 첫 페이지 조회 (keyset 페이징, 최신순)
+     * Slice 조회이므로 pageSize + 1건만 가져와 다음 페이지 존재여부를 판단한다.
+     */
+    @Query("SELECT new com.kb_card.card.dto.TransactionInfoView(" + TRANSACTION_INFO_COLUMNS + ") " +
+           "FROM CardTransaction t WHERE t.card = :card AND t.tranDate BETWEEN :fromDate AND :toDate " +
+           "ORDER BY t.tranDate DESC, t.tranTime DESC, t.id DESC")
+    Slice<TransactionInfoView> findSliceByCardAndDateRange(@Param("card") Card card,
+                                                      @Param("fromDate") LocalDate fromDate,
+                                                      @Param("toDate") LocalDate toDate,
+                                                      Pageable pageable);
+    
+    /**
+     * 카드별 날짜 범위 거래내역 다음 페이지 조회 (keyset 페이징, 커서 이후 최신순)
+     */
+    @Query("SELECT new com.kb_card.card.dto.TransactionInfoView(" + TRANSACTION_INFO_COLUMNS + ") " +
+           "FROM CardTransaction t WHERE t.card = :card AND t.tranDate BETWEEN :fromDate AND :toDate " +
+           "AND (t.tranDate < :cursorDate " +
+           "OR (t.tranDate = :cursorDate AND t.tranTime < :cursorTime) " +
+           "OR (t.tranDate = :cursorDate AND t.tranTime = :cursorTime AND t.id < :cursorId)) " +
+           "ORDER BY t.tranDate DESC, t.tranTime DESC, t.id DESC")
+    Slice<TransactionInfoView> findSliceByCardAndDateRangeAfter(@Param("card") Card card,
+                                                           @Param("fromDate") LocalDate fromDate,
+                                                           @Param("toDate") LocalDate toDate,
+                                                           @Param("cursorDate") LocalDate cursorDate,
+                                                           @Param("cursorTime") LocalTime cursorTime,
+                                                           @Param("cursorId") Long cursorId,
+                                                           Pageable pageable);
+    
     /**
      * 거래 ID로 거래내역 조회
      */
@@ -173,20 +188,4 @@ public interface CardTransactionRepository extends JpaRepository<CardTransaction
     @Query("SELECT t FROM CardTransaction t WHERE t.card = :card AND t.category = :category ORDER BY t.tranDate DESC, t.tranTime DESC")
     List<CardTransaction> findByCardAndCategory(@Param("card") Card card, 
                                               @Param("category") CardTransaction.TransactionCategory category);
-    
-    /**
-     * 카드별 거래내역 통계 (총 거래건수)
-     */
-    @Query("SELECT COUNT(t) FROM CardTransaction t WHERE t.card = :card AND t.tranDate BETWEEN :fromDate AND :toDate")
-    long countByCardAndDateRange(@Param("card") Card card, 
-                                @Param("fromDate") LocalDate fromDate, 
-                                @Param("toDate") LocalDate toDate);
-    
-    /**
-     * 카드별 거래내역 통계 (총 거래금액)
-     */
-    @Query("SELECT SUM(t.approvedAmt) FROM CardTransaction t WHERE t.card = :card AND t.tranDate BETWEEN :fromDate AND :toDate AND t.tranType = 'APPROVAL'")
-    java.math.BigDecimal sumApprovedAmountByCardAndDateRange(@Param("card") Card card, 
-                                                           @Param("fromDate") LocalDate fromDate, 
-                                                           @Param("toDate") LocalDate toDate);
 } 
\ No newline at end of file
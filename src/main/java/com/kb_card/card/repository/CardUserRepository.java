@@ -1,10 +1,18 @@
 package com.kb_card.card.repository;
 
+import com.kb_card.card.dto.CardUserSnapshot;
 import com.kb_card.card.entity.CardUser;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CardUserRepository extends JpaRepository<CardUser, Long> {
@@ -14,6 +22,26 @@ public interface CardUserRepository extends JpaRepository<CardUser, Long> {
      */
     Optional<CardUser> findByUserCi(String userCi);
     
+    /**
+     * 사용자 CI로 사용자 식별자/상태만 조회 (KFTC 조회용)
+     */
+    @Query("SELECT new com.kb_card.card.dto.CardUserSnapshot(u.userId, u.status) " +
+           "FROM CardUser u WHERE u.userCi = :userCi")
+    Optional<CardUserSnapshot> findSnapshotByUserCi(@Param("userCi") String userCi);
+    
+    /**
+     * 전체 사용자 CI 스트리밍 조회 (존재 여부 필터 재구성용, 트랜잭션 안에서 사용)
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT u.userCi FROM CardUser u")
+    Stream<String> streamAllUserCis();
+
+    /**
+     * since 이후 등록된 사용자 CI (존재 여부 필터 증분 반영용)
+     */
+    @Query("SELECT u.userCi FROM CardUser u WHERE u.createdAt >= :since")
+    List<String> findUserCisCreatedSince(@Param("since") LocalDateTime since);
+    
     /**
      * 사용자 ID로 사용자 조회
      */
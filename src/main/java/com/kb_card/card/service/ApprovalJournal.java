@@ -0,0 +1,430 @@
+package com.kb_card.card.service;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 승인 거래 로컬 저널 (append-only, 메모리 매핑 세그먼트 파일)
+ * DB 가 느리거나 연결되지 않을 때 승인을 로컬 디스크에 먼저 기록하고, 나중에 순서대로 재처리한다.
+ *
+ * 레코드 형식: [길이 int][CRC32C int][payload]. 길이 0 은 기록 끝, -1 은 다음 세그먼트로 이어짐을 뜻한다.
+ * append 는 fsync 가 끝난 뒤 반환하며, 동시에 기록한 요청들은 먼저 잠금을 얻은 한 스레드의 force 한 번으로
+ * 함께 영속화된다(group commit). 재처리 위치는 checkpoint 파일에 기록하고, 지난 세그먼트는 삭제한다.
+ * 재처리해도 반영할 수 없는 레코드는 dead-letter 파일(한 줄에 하나)로 옮겨 뒤의 레코드 재처리를 막지 않는다.
+ * 잠금은 가상 스레드를 고정(pinning)하지 않도록 ReentrantLock 을 사용한다.
+ */
+@Slf4j
+@Component
+public class ApprovalJournal {
+
+    private static final String SEGMENT_PREFIX = "approvals-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT_FILE = "checkpoint";
+    private static final String DEAD_LETTER_FILE = "dead-letter.log";
+    private static final int HEADER_BYTES = 8;
+    private static final int ROLLOVER_MARK = -1;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int segmentBytes;
+    private final int maxSegments;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ReentrantLock deadLetterLock = new ReentrantLock();
+    private final ConcurrentSkipListMap<Long, MappedByteBuffer> segments = new ConcurrentSkipListMap<>();
+
+    // appendLock 으로 보호
+    private MappedByteBuffer writeBuffer;
+    private long writeSegment;
+    private int writeOffset;
+
+    /**
+     * 기록된 위치 (appendLock 안에서만 변경)
+     */
+    private volatile Position written;
+
+    /**
+     * fsync 가 끝난 위치 (재처리는 여기까지만 읽는다)
+     */
+    private final AtomicReference<Position> durable = new AtomicReference<>();
+
+    /**
+     * 다음에 재처리할 위치
+     */
+    private volatile Position checkpoint;
+
+    public ApprovalJournal(@Value("${card.approval-journal.enabled:false}") boolean enabled,
+                           @Value("${card.approval-journal.dir:./data/approval-journal}") String directory,
+                           @Value("${card.approval-journal.segment-bytes:67108864}") int segmentBytes,
+                           @Value("${card.approval-journal.max-segments:64}") int maxSegments) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory).toAbsolutePath();
+        this.segmentBytes = segmentBytes;
+        this.maxSegments = maxSegments;
+        if (enabled) {
+            try {
+                recover();
+            } catch (IOException e) {
+                throw new UncheckedIOException("승인 저널 열기 실패 - dir: " + this.directory, e);
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 재처리되지 않은 레코드가 있는지 여부
+     */
+    public boolean hasBacklog() {
+        return enabled && checkpoint.compareTo(durable.get()) < 0;
+    }
+
+    public Position getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * 레코드 추가 (fsync 완료 후 반환)
+     *
+     * @throws IllegalStateException 저널 용량(max-segments)을 넘은 경우
+     */
+    public Position append(byte[] payload) {
+        if (payload.length == 0 || payload.length > segmentBytes - HEADER_BYTES - Integer.BYTES) {
+            throw new IllegalArgumentException("저널 레코드 크기 오류: " + payload.length);
+        }
+
+        Position end;
+        appendLock.lock();
+        try {
+            if (writeOffset + HEADER_BYTES + payload.length + Integer.BYTES > segmentBytes) {
+                rollover();
+            }
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+
+            // 본문과 CRC 를 먼저 쓰고 길이를 마지막에 기록한다
+            writeBuffer.put(writeOffset + HEADER_BYTES, payload);
+            writeBuffer.putInt(writeOffset + Integer.BYTES, (int) crc.getValue());
+            writeBuffer.putInt(writeOffset, payload.length);
+            writeOffset += HEADER_BYTES + payload.length;
+
+            end = new Position(writeSegment, writeOffset);
+            written = end;
+        } finally {
+            appendLock.unlock();
+        }
+
+        awaitDurable(end);
+        return end;
+    }
+
+    /**
+     * 위치 from 부터 영속화된 레코드를 최대 max 건 읽기
+     */
+    public Batch read(Position from, int max) {
+        List<Entry> entries = new ArrayList<>(Math.min(max, 256));
+        Position limit = durable.get();
+        Position position = from;
+
+        while (entries.size() < max && position.compareTo(limit) < 0) {
+            MappedByteBuffer buffer = segments.get(position.getSegment());
+            if (buffer == null) {
+                throw new IllegalStateException("저널 세그먼트 없음: " + position.getSegment());
+            }
+            int length = buffer.getInt(position.getOffset());
+            if (length == ROLLOVER_MARK) {
+                position = new Position(position.getSegment() + 1, 0);
+                continue;
+            }
+
+            byte[] payload = new byte[length];
+            buffer.get(position.getOffset() + HEADER_BYTES, payload);
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(position.getOffset() + Integer.BYTES)) {
+                throw new IllegalStateException("저널 레코드 손상: " + position);
+            }
+
+            Position next = new Position(position.getSegment(), position.getOffset() + HEADER_BYTES + length);
+            entries.add(new Entry(position, next, payload));
+            position = next;
+        }
+        return new Batch(entries, position);
+    }
+
+    /**
+     * 재처리 위치 기록 후 지난 세그먼트 삭제
+     */
+    public void commit(Position next) {
+        if (next.compareTo(checkpoint) <= 0) {
+            return;
+        }
+        try {
+            Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                channel.write(ByteBuffer.wrap((next.getSegment() + " " + next.getOffset()).getBytes(StandardCharsets.US_ASCII)));
+                channel.force(true);
+            }
+            Files.move(temp, directory.resolve(CHECKPOINT_FILE),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            checkpoint = next;
+
+            for (Long segment : List.copyOf(segments.keySet())) {
+                if (segment >= next.getSegment()) {
+                    break;
+                }
+                segments.remove(segment);
+                Files.deleteIfExists(segmentPath(segment));
+                log.debug("재처리 완료 저널 세그먼트 삭제 - segment: {}", segment);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("승인 저널 checkpoint 기록 실패", e);
+        }
+    }
+
+    /**
+     * 재처리할 수 없는 레코드를 dead-letter 파일에 한 줄로 추가 (fsync 후 반환)
+     */
+    public void deadLetter(byte[] line) {
+        deadLetterLock.lock();
+        try (FileChannel channel = FileChannel.open(getDeadLetterFile(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(line));
+            channel.write(ByteBuffer.wrap(new byte[]{'\n'}));
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("승인 저널 dead-letter 기록 실패", e);
+        } finally {
+            deadLetterLock.unlock();
+        }
+    }
+
+    public Path getDeadLetterFile() {
+        return directory.resolve(DEAD_LETTER_FILE);
+    }
+
+    /**
+     * end 까지 fsync 될 때까지 대기
+     * 잠금을 먼저 얻은 스레드가 그때까지 기록된 전체를 force 하므로 대기 중인 요청은 대부분 force 없이 반환된다.
+     */
+    private void awaitDurable(Position end) {
+        if (end.compareTo(durable.get()) <= 0) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            if (end.compareTo(durable.get()) <= 0) {
+                return;
+            }
+            MappedByteBuffer buffer;
+            Position target;
+            appendLock.lock();
+            try {
+                buffer = writeBuffer;
+                target = written;
+            } finally {
+                appendLock.unlock();
+            }
+            buffer.force();
+            advanceDurable(target);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 현재 세그먼트를 닫고 다음 세그먼트로 전환 (appendLock 보유 상태에서 호출)
+     * 닫는 세그먼트는 전환 전에 force 하므로 이전 레코드는 모두 영속화된다.
+     */
+    private void rollover() {
+        if (segments.size() >= maxSegments) {
+            throw new IllegalStateException("승인 저널 용량 초과 - segments: " + segments.size());
+        }
+        writeBuffer.putInt(writeOffset, ROLLOVER_MARK);
+        writeBuffer.force();
+
+        long next = writeSegment + 1;
+        writeBuffer = mapSegment(next);
+        segments.put(next, writeBuffer);
+        writeSegment = next;
+        writeOffset = 0;
+        written = new Position(next, 0);
+        advanceDurable(written);
+        log.info("승인 저널 세그먼트 전환 - segment: {}", next);
+    }
+
+    private void advanceDurable(Position target) {
+        durable.accumulateAndGet(target, (current, candidate) -> current.compareTo(candidate) >= 0 ? current : candidate);
+    }
+
+    /**
+     * 기동 시 checkpoint / 세그먼트를 읽어 기록 위치 복구
+     * 마지막 세그먼트는 CRC 가 맞는 레코드까지만 유효로 보고, 그 뒤(미완료 기록)는 0 으로 지운다.
+     */
+    private void recover() throws IOException {
+        Files.createDirectories(directory);
+
+        Position restored = readCheckpoint();
+        List<Long> existing;
+        try (Stream<Path> files = Files.list(directory)) {
+            existing = files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+
+        for (Long segment : existing) {
+            if (segment < restored.getSegment()) {
+                Files.deleteIfExists(segmentPath(segment));
+            } else {
+                segments.put(segment, mapSegment(segment));
+            }
+        }
+        if (segments.isEmpty()) {
+            segments.put(restored.getSegment(), mapSegment(restored.getSegment()));
+        }
+
+        writeSegment = segments.lastKey();
+        writeBuffer = segments.get(writeSegment);
+        writeOffset = scanEnd(writeBuffer, writeSegment == restored.getSegment() ? restored.getOffset() : 0);
+        byte[] zeros = new byte[8192];
+        for (int i = writeOffset; i < segmentBytes; i += zeros.length) {
+            writeBuffer.put(i, zeros, 0, Math.min(zeros.length, segmentBytes - i));
+        }
+        writeBuffer.force();
+
+        written = new Position(writeSegment, writeOffset);
+        durable.set(written);
+        checkpoint = restored;
+
+        log.info("승인 저널 복구 완료 - dir: {}, checkpoint: {}, end: {}, segments: {}",
+                directory, checkpoint, written, segments.size());
+    }
+
+    private int scanEnd(MappedByteBuffer buffer, int from) {
+        int offset = from;
+        while (offset + HEADER_BYTES <= segmentBytes) {
+            int length = buffer.getInt(offset);
+            if (length <= 0 || offset + HEADER_BYTES + length > segmentBytes) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(offset + HEADER_BYTES, payload);
+            CRC32C crc = new CRC32C();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(offset + Integer.BYTES)) {
+                log.warn("승인 저널 미완료 레코드 폐기 - offset: {}", offset);
+                break;
+            }
+            offset += HEADER_BYTES + length;
+        }
+        return offset;
+    }
+
+    private Position readCheckpoint() throws IOException {
+        Path file = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(file)) {
+            return new Position(0, 0);
+        }
+        String[] parts = Files.readString(file, StandardCharsets.US_ASCII).trim().split(" ");
+        return new Position(Long.parseLong(parts[0]), Integer.parseInt(parts[1]));
+    }
+
+    private MappedByteBuffer mapSegment(long segment) {
+        try (FileChannel channel = FileChannel.open(segmentPath(segment),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 매핑은 채널을 닫아도 유지된다
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("승인 저널 세그먼트 매핑 실패 - segment: " + segment, e);
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    /**
+     * 저널 내 위치 (세그먼트 번호, 세그먼트 내 오프셋)
+     */
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    public static class Position implements Comparable<Position> {
+
+        private final long segment;
+
+        private final int offset;
+
+        @Override
+        public int compareTo(Position other) {
+            int bySegment = Long.compare(segment, other.segment);
+            return bySegment != 0 ? bySegment : Integer.compare(offset, other.offset);
+        }
+
+        @Override
+        public String toString() {
+            return segment + ":" + offset;
+        }
+    }
+
+    /**
+     * 저널 레코드
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+
+        private final Position position;
+
+        /**
+         * 다음 레코드 위치 (이 레코드까지 재처리했을 때의 checkpoint)
+         */
+        private final Position next;
+
+        private final byte[] payload;
+    }
+
+    /**
+     * 읽기 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Batch {
+
+        private final List<Entry> entries;
+
+        /**
+         * 마지막으로 읽은 다음 위치
+         */
+        private final Position next;
+    }
+}
@@ -0,0 +1,131 @@
+package com.kb_card.card.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키용 Bloom filter (lock-free)
+ * mightContain 이 false 이면 해당 키는 확실히 없다. true 이면 오탐일 수 있다.
+ * 비트 배열은 AtomicLongArray 로 관리하여 조회와 추가가 동시에 일어나도 안전하다.
+ */
+class BloomFilter {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final AtomicLong insertions = new AtomicLong();
+
+    private BloomFilter(long bitCount, int hashCount) {
+        this.words = new AtomicLongArray((int) ((bitCount + 63) >>> 6));
+        this.bitCount = (long) words.length() << 6;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * 예상 건수와 목표 오탐률로 필터 생성
+     */
+    static BloomFilter create(long expectedInsertions, double targetFpp) {
+        long n = Math.max(expectedInsertions, 1L);
+        double p = Math.min(Math.max(targetFpp, 1e-9), 0.5);
+
+        // m = -n ln p / (ln 2)^2, k = m/n ln 2
+        long bits = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        bits = Math.min(Math.max(bits, 64L), (long) Integer.MAX_VALUE * 64L);
+        int hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+        return new BloomFilter(bits, hashes);
+    }
+
+    void put(String key) {
+        long hash = hash64(key);
+        long h1 = mix64(hash);
+        long h2 = mix64(hash + GOLDEN_GAMMA) | 1L;
+
+        boolean changed = false;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            changed |= setBit(bit);
+        }
+        if (changed) {
+            insertions.incrementAndGet();
+        }
+    }
+
+    boolean mightContain(String key) {
+        long hash = hash64(key);
+        long h1 = mix64(hash);
+        long h2 = mix64(hash + GOLDEN_GAMMA) | 1L;
+
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 추가된 (서로 다른) 키 수 근사값
+     */
+    long approximateSize() {
+        return insertions.get();
+    }
+
+    long bitCount() {
+        return bitCount;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    long sizeInBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    /**
+     * 현재 적재 건수 기준 예상 오탐률 (1 - e^(-kn/m))^k
+     */
+    double expectedFpp() {
+        double n = insertions.get();
+        return Math.pow(1 - Math.exp(-hashCount * n / bitCount), hashCount);
+    }
+
+    private boolean setBit(long bit) {
+        int index = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        while (true) {
+            long word = words.get(index);
+            if ((word & mask) != 0) {
+                return false;
+            }
+            if (words.compareAndSet(index, word, word | mask)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * FNV-1a 64bit (UTF-8 바이트 기준)
+     */
+    private static long hash64(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * murmur3 fmix64
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
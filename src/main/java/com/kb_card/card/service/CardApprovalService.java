@@ -0,0 +1,424 @@
+package com.kb_card.card.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kb_card.card.entity.CardTransaction;
+import com.kb_card.card.repository.CardTransactionRepository;
+import com.kb_card.common.exception.BusinessException;
+import com.kb_card.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 거래 승인 (DB 장애 시 로컬 저널 대체 처리)
+ * DB 반영을 card.approval-journal.db-timeout-ms 안에 끝내지 못하거나 연결/일시 장애가 나면 승인을 로컬 저널(ApprovalJournal)에
+ * 기록하고 바로 응답한다. 컬럼 길이 초과, 제약조건 위반처럼 다시 해도 같은 오류는 저널로 보내지 않고 오류로 응답한다.
+ * 저널에 밀린 건이 있는 동안에는 순서를 지키기 위해 새 승인도 저널로 보낸다.
+ * 저널 건은 DB 가 회복되면 기록 순서대로 거래/청구서 반영 대기열에 재처리되며, 거래 ID 로 중복 반영을 막는다.
+ * 재처리 중 확정 오류(유효하지 않은 카드, 제약조건 위반 등)가 난 건은 dead-letter 로 옮기고 다음 건으로 넘어간다.
+ * 시간 초과로 저널에 기록한 건은 DB 반영 시도가 계속 진행 중이므로, 재처리는 그 시도가 끝난 뒤에 결과를 보고 반영한다.
+ */
+@Slf4j
+@Service
+public class CardApprovalService {
+
+    private final CardTransactionService cardTransactionService;
+    private final CardTransactionRepository cardTransactionRepository;
+    private final CardExistenceFilter cardExistenceFilter;
+    private final CardVelocityGuard cardVelocityGuard;
+    private final ApprovalJournal approvalJournal;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor approvalExecutor;
+
+    private final Counter journaledCounter;
+    private final Counter replayedCounter;
+    private final Counter replayRejectedCounter;
+
+    @Value("${card.approval-journal.db-timeout-ms:3000}")
+    private long dbTimeoutMs;
+
+    @Value("${card.approval-journal.db-retry-delay-ms:5000}")
+    private long dbRetryDelayMs;
+
+    @Value("${card.approval-journal.replay-batch-size:100}")
+    private int replayBatchSize;
+
+    /**
+     * 이 시각(epoch ms) 전까지는 DB 를 거치지 않고 저널에 기록
+     */
+    private volatile long dbUnavailableUntil;
+
+    /**
+     * 시간 초과 후에도 진행 중인 DB 반영 시도 (거래 ID 별, 해당 저널 건 재처리 시 제거)
+     */
+    private final Map<String, Future<CardTransaction>> inFlightAttempts = new ConcurrentHashMap<>();
+
+    public CardApprovalService(CardTransactionService cardTransactionService,
+                               CardTransactionRepository cardTransactionRepository,
+                               CardExistenceFilter cardExistenceFilter,
+                               CardVelocityGuard cardVelocityGuard,
+                               ApprovalJournal approvalJournal,
+                               ObjectMapper objectMapper,
+                               @Qualifier("approvalExecutor") ThreadPoolTaskExecutor approvalExecutor,
+                               MeterRegistry meterRegistry) {
+        this.cardTransactionService = cardTransactionService;
+        this.cardTransactionRepository = cardTransactionRepository;
+        this.cardExistenceFilter = cardExistenceFilter;
+        this.cardVelocityGuard = cardVelocityGuard;
+        this.approvalJournal = approvalJournal;
+        this.objectMapper = objectMapper;
+        this.approvalExecutor = approvalExecutor;
+        this.journaledCounter = Counter.builder("card.approval.journaled")
+                .description("DB 대신 로컬 저널에 기록된 승인 건수")
+                .register(meterRegistry);
+        this.replayedCounter = Counter.builder("card.approval.replayed")
+                .description("저널에서 DB 로 재처리된 승인 건수")
+                .register(meterRegistry);
+        this.replayRejectedCounter = Counter.builder("card.approval.replay.rejected")
+                .description("재처리 중 확정 오류로 dead-letter 로 옮긴 저널 승인 건수")
+                .register(meterRegistry);
+        Gauge.builder("card.approval.journal.backlog", approvalJournal, journal -> journal.hasBacklog() ? 1 : 0)
+                .description("재처리 대기 중인 저널 승인 존재 여부")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 거래 승인
+     * DB 에 반영되었거나, 로컬 저널에 영속화된 뒤 반환한다.
+     */
+    public ApprovalResult approve(CardTransactionService.CreateTransactionRequest request) {
+        // 저널에 들어간 뒤에는 재처리에서 같은 이유로 계속 실패하므로 형식 오류는 먼저 거절한다
+        validate(request);
+
+        String transactionId = cardTransactionService.generateTransactionId();
+        if (!approvalJournal.isEnabled()) {
+            return ApprovalResult.posted(cardTransactionService.createTransaction(request, transactionId));
+        }
+
+        // 저널 재처리 시각이 아니라 승인 시각으로 기록되도록 고정
+        LocalDateTime now = LocalDateTime.now();
+        if (request.getTranDate() == null) {
+            request.setTranDate(now.toLocalDate());
+        }
+        if (request.getTranTime() == null) {
+            request.setTranTime(now.toLocalTime());
+        }
+
+        if (approvalJournal.hasBacklog() || System.currentTimeMillis() < dbUnavailableUntil) {
+            return journal(request, transactionId, null);
+        }
+
+        Future<CardTransaction> future;
+        try {
+            future = approvalExecutor.submit(() -> cardTransactionService.createTransaction(request, transactionId));
+        } catch (TaskRejectedException e) {
+            // DB 반영 스레드가 모두 대기 중 (DB 지연)
+            return journal(request, transactionId, null);
+        }
+
+        try {
+            return ApprovalResult.posted(future.get(dbTimeoutMs, TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            // DB 반영은 취소하지 않고 진행 중으로 남긴다 (늦게 커밋되면 그 커밋이 속도 집계를 하고, 재처리는 거래 ID 로 건너뛴다)
+            markDbUnavailable("DB 반영 시간 초과 (" + dbTimeoutMs + "ms)");
+            return journal(request, transactionId, future);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (isTransient(cause)) {
+                // 시도가 커밋 없이 끝났으므로 처음 기록하는 건과 같이 검사·집계한다
+                markDbUnavailable(cause.getMessage());
+                return journal(request, transactionId, null);
+            }
+            if (cause instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            // 제약조건 위반 등 커밋 시점의 확정 오류는 저널로 보내지 않는다
+            log.error("거래 승인 실패 (DB 확정 오류) - transactionId: {}, cardNo: {}, error: {}",
+                    transactionId, request.getCardNo(), cause.getMessage(), cause);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * 저널 승인 재처리 (기록 순서대로)
+     * 확정 오류 건은 dead-letter 로 옮기고, 일시 장애가 나면 해당 건부터 다음 주기에 다시 시도한다.
+     */
+    @Scheduled(fixedDelayString = "${card.approval-journal.replay-delay-ms:1000}")
+    public void replay() {
+        if (!approvalJournal.hasBacklog() || System.currentTimeMillis() < dbUnavailableUntil) {
+            return;
+        }
+
+        int replayed = 0;
+        while (approvalJournal.hasBacklog()) {
+            ApprovalJournal.Batch batch = approvalJournal.read(approvalJournal.getCheckpoint(), replayBatchSize);
+            for (ApprovalJournal.Entry entry : batch.getEntries()) {
+                if (!replay(entry)) {
+                    // 반영된 건까지만 checkpoint (그 이후 재처리 중복은 거래 ID 로 제거된다)
+                    approvalJournal.commit(entry.getPosition());
+                    log.info("승인 저널 재처리 중단 - 재처리: {}, 다음 위치: {}", replayed, entry.getPosition());
+                    return;
+                }
+                replayed++;
+            }
+            approvalJournal.commit(batch.getNext());
+        }
+
+        dbUnavailableUntil = 0;
+        if (replayed > 0) {
+            log.info("승인 저널 재처리 완료 - 재처리: {}", replayed);
+        }
+    }
+
+    /**
+     * 저널 건 하나 반영
+     *
+     * @return false 이면 일시 장애로 중단
+     */
+    private boolean replay(ApprovalJournal.Entry entry) {
+        JournalEntry journalEntry;
+        try {
+            journalEntry = objectMapper.readValue(entry.getPayload(), JournalEntry.class);
+        } catch (IOException e) {
+            // CRC 가 맞는 레코드이므로 형식 오류는 재시도해도 같다
+            deadLetter(entry, null, "레코드 해석 실패: " + e.getMessage());
+            return true;
+        }
+
+        String transactionId = journalEntry.getTransactionId();
+        if (journalEntry.isInFlight()) {
+            Future<CardTransaction> attempt = inFlightAttempts.get(transactionId);
+            if (attempt != null && !attempt.isDone()) {
+                // 시간 초과된 DB 반영이 아직 진행 중: 커밋 여부를 알 수 있을 때까지 이 건부터 다음 주기에 다시 시도
+                return false;
+            }
+            inFlightAttempts.remove(transactionId);
+        }
+
+        try {
+            if (!cardTransactionRepository.existsByTransactionId(transactionId)) {
+                // 속도 한도는 저널 기록 시(진행 중이던 건은 DB 반영 시도 시) 검사했으므로 다시 하지 않는다
+                cardTransactionService.createTransaction(journalEntry.getRequest(), transactionId, true);
+                if (journalEntry.isInFlight()) {
+                    // 진행 중이던 시도가 커밋되지 않아 집계되지 않았으므로 재처리 반영분을 한 번 집계한다
+                    recordVelocity(journalEntry.getRequest());
+                }
+            }
+            replayedCounter.increment();
+            return true;
+        } catch (Exception e) {
+            if (isTransient(e)) {
+                markDbUnavailable(e.getMessage());
+                return false;
+            }
+            // 카드 오류, 컬럼/제약조건 위반 등은 다시 해도 같으므로 뒤의 승인을 막지 않도록 넘긴다
+            Throwable cause = e instanceof BusinessException && e.getCause() != null ? e.getCause() : e;
+            deadLetter(entry, transactionId, cause.getMessage());
+            return true;
+        }
+    }
+
+    private void deadLetter(ApprovalJournal.Entry entry, String transactionId, String reason) {
+        DeadLetter deadLetter = new DeadLetter(entry.getPosition().toString(), transactionId, reason,
+                LocalDateTime.now().toString(), new String(entry.getPayload(), StandardCharsets.UTF_8));
+        try {
+            approvalJournal.deadLetter(objectMapper.writeValueAsBytes(deadLetter));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("dead-letter 직렬화 실패", e);
+        }
+        replayRejectedCounter.increment();
+        log.error("저널 승인 반영 불가, dead-letter 로 이동 - position: {}, transactionId: {}, reason: {}",
+                entry.getPosition(), transactionId, reason);
+    }
+
+    /**
+     * 승인 요청 형식 검증 (컬럼 길이 등, CardTransactionBulkService 적재 검증과 같은 기준)
+     */
+    private static void validate(CardTransactionService.CreateTransactionRequest request) {
+        if (request.getCardNo() == null || request.getCardNo().isBlank()
+                || request.getAmount() == null || request.getAmount().compareTo(BigDecimal.ZERO) <= 0
+                || request.getMerchantName() == null || request.getMerchantName().isBlank()
+                || request.getMerchantName().length() > 100
+                || (request.getMerchantRegno() != null && request.getMerchantRegno().length() > 20)
+                || (request.getMemo() != null && request.getMemo().length() > 200)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    /**
+     * 일시 장애 여부 (연결 실패, 시간 초과 등 - 나중에 다시 하면 성공할 수 있는 오류)
+     */
+    static boolean isTransient(Throwable e) {
+        for (Throwable cause = e; cause != null && cause.getCause() != cause; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof DataAccessResourceFailureException
+                    || cause instanceof CannotCreateTransactionException
+                    || cause instanceof SQLRecoverableException
+                    || cause instanceof SQLTransientException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 승인을 저널에 기록
+     *
+     * @param inFlightAttempt 시간 초과 후 진행 중인 DB 반영 시도 (없으면 null)
+     *                        있으면 존재 여부/속도 한도는 그 시도에서 이미 검사했고 집계도 그 커밋이 하므로,
+     *                        다시 검사·집계하지 않고 업무 오류로 거절하지도 않는다.
+     */
+    private ApprovalResult journal(CardTransactionService.CreateTransactionRequest request, String transactionId,
+                                   Future<CardTransaction> inFlightAttempt) {
+        boolean inFlight = inFlightAttempt != null;
+        if (!inFlight) {
+            // DB 를 확인할 수 없으므로 존재 여부 필터로 미등록 카드만 거절한다
+            // (필터는 수 초 주기로 신규 카드를 반영하므로 그 사이 발급된 카드만 거절될 수 있다)
+            if (!cardExistenceFilter.mightContainCardNo(request.getCardNo())) {
+                throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND);
+            }
+
+            // 속도 한도는 메모리 집계만 사용하므로 DB 없이도 같은 규칙으로 검사한다
+            cardVelocityGuard.check(request.getCardNo(), tranType(request), category(request), request.getAmount());
+        } else {
+            inFlightAttempts.put(transactionId, inFlightAttempt);
+        }
+
+        try {
+            approvalJournal.append(objectMapper.writeValueAsBytes(new JournalEntry(transactionId, request, inFlight)));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("승인 저널 기록 실패 - transactionId: {}, error: {}", transactionId, e.getMessage(), e);
+            inFlightAttempts.remove(transactionId);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+        if (!inFlight) {
+            recordVelocity(request);
+        }
+        journaledCounter.increment();
+        log.info("승인 저널 기록 - transactionId: {}, cardNo: {}", transactionId, request.getCardNo());
+        return ApprovalResult.journaled(transactionId, request.getCardNo(), request.getAmount());
+    }
+
+    private void recordVelocity(CardTransactionService.CreateTransactionRequest request) {
+        if (tranType(request) == CardTransaction.TransactionType.APPROVAL) {
+            cardVelocityGuard.recordAfterCommit(request.getCardNo(), category(request), request.getAmount(),
+                    LocalDateTime.of(request.getTranDate(), request.getTranTime()));
+        }
+    }
+
+    private static CardTransaction.TransactionType tranType(CardTransactionService.CreateTransactionRequest request) {
+        return request.getTranType() != null ? request.getTranType() : CardTransaction.TransactionType.APPROVAL;
+    }
+
+    private static CardTransaction.TransactionCategory category(CardTransactionService.CreateTransactionRequest request) {
+        return request.getCategory() != null ? request.getCategory() : CardTransaction.TransactionCategory.OTHERS;
+    }
+
+    private void markDbUnavailable(String reason) {
+        if (System.currentTimeMillis() >= dbUnavailableUntil) {
+            log.warn("DB 반영 불가, 승인 저널로 전환 - {}ms, reason: {}", dbRetryDelayMs, reason);
+        }
+        dbUnavailableUntil = System.currentTimeMillis() + dbRetryDelayMs;
+    }
+
+    /**
+     * 승인 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ApprovalResult {
+
+        private final String transactionId;
+
+        private final String cardNo;
+
+        private final BigDecimal amount;
+
+        /**
+         * true 이면 로컬 저널에 기록되어 DB 반영 대기 중
+         */
+        private final boolean journaled;
+
+        static ApprovalResult posted(CardTransaction transaction) {
+            return new ApprovalResult(transaction.getTransactionId(), transaction.getCardNo(),
+                    transaction.getApprovedAmt(), false);
+        }
+
+        static ApprovalResult journaled(String transactionId, String cardNo, BigDecimal amount) {
+            return new ApprovalResult(transactionId, cardNo, amount, true);
+        }
+    }
+
+    /**
+     * dead-letter 한 줄 (원본 레코드와 실패 사유)
+     */
+    @Getter
+    @AllArgsConstructor
+    static class DeadLetter {
+
+        private final String position;
+
+        private final String transactionId;
+
+        private final String reason;
+
+        private final String failedAt;
+
+        /**
+         * 원본 저널 레코드 (JSON)
+         */
+        private final String payload;
+    }
+
+    /**
+     * 저널 레코드 본문
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class JournalEntry {
+
+        private String transactionId;
+
+        private CardTransactionService.CreateTransactionRequest request;
+
+        /**
+         * true 이면 DB 반영 시도가 시간 초과로 진행 중인 상태에서 기록된 건 (속도 한도는 그 시도에서 검사함)
+         */
+        private boolean inFlight;
+    }
+}
@@ -0,0 +1,262 @@
+package com.kb_card.card.service;
+
+import com.kb_card.card.dto.BillTargetCard;
+import com.kb_card.card.entity.CardBill;
+import com.kb_card.card.entity.CardProduct;
+import com.kb_card.card.repository.CardBillRepository;
+import com.kb_card.card.repository.CardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 월 청구서 일괄 처리 (청크 단위 set-based 처리)
+ * 청크마다 별도 트랜잭션으로 커밋하므로 메모리 사용량이 청크 크기로 제한되고,
+ * 중간에 실패해도 재실행 시 이미 커밋된 청크는 anti-join으로 제외되어 이어서 처리된다.
+ * ID 구간 단위로 실행되며, 구간 분할과 병렬 실행은 CardBillJobRunner 가 담당한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CardBillBatchService {
+
+    private static final String DEFAULT_SETTLEMENT_DAY = "25";
+
+    private static final String INSERT_BILL_SQL =
+            "INSERT INTO card_bills (id, card_id, charge_month, settlement_seq_no, charge_amt, settlement_day, " +
+            "settlement_date, credit_check_type, bill_status, version, created_at, modified_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+    private static final String BILL_SEQUENCE = "card_bills_seq";
+
+    /**
+     * 청크 구간의 활성 청구서 행 잠금 (ID 순, 거래 반영의 청구서 합계 증감과 같은 순서)
+     */
+    private static final String LOCK_BILLS_SQL =
+            "SELECT id FROM card_bills " +
+            "WHERE charge_month = ? AND bill_status = ? AND id > ? AND id <= ? " +
+            "ORDER BY id FOR UPDATE";
+
+    /**
+     * 청구금액은 같은 문장 안에서 상세 내역 합계로 계산한다
+     */
+    private static final String CLOSE_BILL_SQL =
+            "UPDATE card_bills b SET " +
+            "charge_amt = (SELECT COALESCE(SUM(d.paid_amt), 0) FROM card_bill_details d WHERE d.card_bill_id = b.id), " +
+            "bill_status = ?, closed_at = ?, modified_at = ?, version = version + 1 " +
+            "WHERE b.id = ? AND b.bill_status = ?";
+
+    private final CardRepository cardRepository;
+    private final CardBillRepository cardBillRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceIdAllocator sequenceIdAllocator;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${card.bill-batch.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * 카드 ID 구간(afterId < id <= toId)의 해당 월 청구서 일괄 생성
+     *
+     * @param listener 청크 커밋마다 호출 (파티션 임대 연장 등)
+     * @return 생성된 청구서 수
+     */
+    public int createBills(String chargeMonth, long afterId, long toId, ChunkListener listener) {
+        // 결제일/결제예정일은 청구월 단위로 동일하므로 한 번만 계산
+        String settlementDate = CardBillService.calculateSettlementDate(chargeMonth, DEFAULT_SETTLEMENT_DAY);
+
+        int createdCount = 0;
+        int chunkCount = 0;
+
+        while (true) {
+            List<BillTargetCard> targets = cardRepository.findBillTargets(
+                    afterId, toId, chargeMonth, PageRequest.of(0, chunkSize));
+            if (targets.isEmpty()) {
+                break;
+            }
+
+            Integer inserted = transactionTemplate.execute(status ->
+                    insertBills(targets, chargeMonth, settlementDate));
+            int count = inserted != null ? inserted : 0;
+            createdCount += count;
+            chunkCount++;
+
+            afterId = targets.get(targets.size() - 1).getCardId();
+            log.debug("청구서 생성 청크 커밋 - chargeMonth: {}, chunk: {}, lastCardId: {}",
+                    chargeMonth, chunkCount, afterId);
+            listener.onChunkCommitted(afterId, count);
+
+            if (targets.size() < chunkSize) {
+                break;
+            }
+        }
+
+        log.debug("청구서 구간 생성 완료 - chargeMonth: {}, toId: {}, 생성: {}, 청크: {}",
+                chargeMonth, toId, createdCount, chunkCount);
+        return createdCount;
+    }
+
+    /**
+     * 대상 카드의 활성 청구서 JDBC 배치 insert (호출 측 트랜잭션에 참여)
+     * 해당 월 청구서가 없는 카드만 전달해야 한다.
+     */
+    int insertActiveBills(List<BillTargetCard> targets, String chargeMonth) {
+        if (targets.isEmpty()) {
+            return 0;
+        }
+        return insertBills(targets, chargeMonth, CardBillService.calculateSettlementDate(chargeMonth, DEFAULT_SETTLEMENT_DAY));
+    }
+
+    /**
+     * 청크 단위 청구서 JDBC 배치 insert
+     */
+    private int insertBills(List<BillTargetCard> targets, String chargeMonth, String settlementDate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long[] billIds = sequenceIdAllocator.allocate(BILL_SEQUENCE, targets.size());
+
+        jdbcTemplate.batchUpdate(INSERT_BILL_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                BillTargetCard target = targets.get(i);
+                ps.setLong(1, billIds[i]);
+                ps.setLong(2, target.getCardId());
+                ps.setString(3, chargeMonth);
+                ps.setString(4, "0001");
+                ps.setBigDecimal(5, BigDecimal.ZERO);
+                ps.setString(6, DEFAULT_SETTLEMENT_DAY);
+                ps.setString(7, settlementDate);
+                ps.setString(8, determineCreditCheckType(target.getCardType()));
+                ps.setString(9, CardBill.BillStatus.ACTIVE.name());
+                ps.setTimestamp(10, now);
+                ps.setTimestamp(11, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return targets.size();
+            }
+        });
+
+        return targets.size();
+    }
+
+    /**
+     * 청구서 ID 구간(afterId < id <= toId)의 해당 월 활성 청구서 일괄 확정
+     * 청크마다 청구서 행을 먼저 잠근 뒤, 상세 내역 합계를 UPDATE 문 안에서 계산해 청구금액/상태/확정일을 배치 UPDATE 한다.
+     * 상세 내역 엔티티는 JVM에 적재하지 않는다.
+     *
+     * @return 확정된 청구서 수
+     */
+    public int closeBills(String chargeMonth, long afterId, long toId, ChunkListener listener) {
+        int closedCount = 0;
+        int chunkCount = 0;
+
+        while (true) {
+            List<Long> billIds = cardBillRepository.findActiveBillIds(
+                    afterId, toId, chargeMonth, PageRequest.of(0, chunkSize));
+            if (billIds.isEmpty()) {
+                break;
+            }
+
+            long chunkAfterId = afterId;
+            long chunkToId = billIds.get(billIds.size() - 1);
+            Integer closed = transactionTemplate.execute(status -> closeChunk(chargeMonth, chunkAfterId, chunkToId));
+            int count = closed != null ? closed : 0;
+            closedCount += count;
+            chunkCount++;
+
+            afterId = billIds.get(billIds.size() - 1);
+            log.debug("청구서 확정 청크 커밋 - chargeMonth: {}, chunk: {}, lastBillId: {}",
+                    chargeMonth, chunkCount, afterId);
+            listener.onChunkCommitted(afterId, count);
+
+            if (billIds.size() < chunkSize) {
+                break;
+            }
+        }
+
+        log.debug("청구서 구간 확정 완료 - chargeMonth: {}, toId: {}, 확정: {}, 청크: {}",
+                chargeMonth, toId, closedCount, chunkCount);
+        return closedCount;
+    }
+
+    /**
+     * 청크 단위 청구서 확정 (행 잠금 1회 + 배치 UPDATE 1회)
+     * 잠금 이후의 문장은 잠금 전에 커밋된 상세 내역을 모두 보고, 아직 커밋되지 않은 거래 반영은
+     * 청구서 합계 증감에서 잠금을 기다린 뒤 확정 상태를 보고 실패(재시도 시 이월)하므로 합계에서 빠지는 내역이 없다.
+     */
+    private int closeChunk(String chargeMonth, long afterId, long toId) {
+        List<Long> billIds = jdbcTemplate.queryForList(LOCK_BILLS_SQL, Long.class,
+                chargeMonth, CardBill.BillStatus.ACTIVE.name(), afterId, toId);
+        if (billIds.isEmpty()) {
+            return 0;
+        }
+
+        Date closedAt = Date.valueOf(LocalDate.now());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        int[] updated = jdbcTemplate.batchUpdate(CLOSE_BILL_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setString(1, CardBill.BillStatus.CLOSED.name());
+                ps.setDate(2, closedAt);
+                ps.setTimestamp(3, now);
+                ps.setLong(4, billIds.get(i));
+                ps.setString(5, CardBill.BillStatus.ACTIVE.name());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return billIds.size();
+            }
+        });
+
+        int closedCount = 0;
+        for (int count : updated) {
+            // 드라이버가 건수를 알려주지 않는 경우(SUCCESS_NO_INFO)도 확정된 것으로 본다
+            closedCount += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+        }
+        return closedCount;
+    }
+
+    /**
+     * 신용/체크 구분 결정
+     */
+    private String determineCreditCheckType(CardProduct.CardType cardType) {
+        if (cardType == null) {
+            return "01"; // 기본값: 신용
+        }
+        return switch (cardType) {
+            case CREDIT -> "01"; // 신용
+            case DEBIT, PREPAID -> "02"; // 체크 (선불은 체크로 분류)
+        };
+    }
+
+    /**
+     * 청크 커밋 알림
+     */
+    @FunctionalInterface
+    public interface ChunkListener {
+
+        /**
+         * @param lastId 청크의 마지막 처리 ID (카드 ID 또는 청구서 ID)
+         * @param count  청크에서 생성/확정된 청구서 수
+         */
+        void onChunkCommitted(long lastId, int count);
+    }
+}
@@ -0,0 +1,323 @@
+package com.kb_card.card.service;
+
+import com.kb_card.card.dto.CardBillJobPartitionResponse;
+import com.kb_card.card.dto.CardBillJobRunResponse;
+import com.kb_card.card.entity.CardBillJobPartition;
+import com.kb_card.card.entity.CardBillJobPartition.JobType;
+import com.kb_card.card.entity.CardBillJobRun;
+import com.kb_card.card.entity.CardBillJobRun.TriggerType;
+import com.kb_card.card.repository.CardBillJobPartitionRepository;
+import com.kb_card.card.repository.CardBillJobRunRepository;
+import com.kb_card.card.repository.CardBillRepository;
+import com.kb_card.card.repository.CardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 월 청구서 작업 파티션 실행기
+ * 대상 ID 구간을 파티션으로 나눠 DB 임대 테이블(card_bill_job_partitions)에 등록하고,
+ * 이 인스턴스의 워커 풀이 임대 가능한 파티션을 하나씩 가져가 처리한다.
+ * 여러 인스턴스가 동시에 실행해도 파티션은 조건부 UPDATE 로 한 워커에게만 임대되므로 나눠서 처리된다.
+ * 청크마다 파티션 체크포인트를 기록하므로 중단된 작업은 다음 실행에서 체크포인트부터 이어서 처리되며,
+ * 인스턴스별 실행 결과는 card_bill_job_runs 에 남는다.
+ */
+@Slf4j
+@Service
+public class CardBillJobRunner {
+
+    private final CardBillJobPartitionRepository partitionRepository;
+    private final CardBillJobRunRepository runRepository;
+    private final CardRepository cardRepository;
+    private final CardBillRepository cardBillRepository;
+    private final CardBillBatchService cardBillBatchService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor billJobExecutor;
+    private final String owner;
+
+    @Value("${card.bill-batch.partitions:32}")
+    private int partitionCount;
+
+    @Value("${card.bill-batch.lease-seconds:300}")
+    private long leaseSeconds;
+
+    public CardBillJobRunner(CardBillJobPartitionRepository partitionRepository,
+                             CardBillJobRunRepository runRepository,
+                             CardRepository cardRepository,
+                             CardBillRepository cardBillRepository,
+                             CardBillBatchService cardBillBatchService,
+                             TransactionTemplate transactionTemplate,
+                             @Qualifier("billJobExecutor") ThreadPoolTaskExecutor billJobExecutor) {
+        this.partitionRepository = partitionRepository;
+        this.runRepository = runRepository;
+        this.cardRepository = cardRepository;
+        this.cardBillRepository = cardBillRepository;
+        this.cardBillBatchService = cardBillBatchService;
+        this.transactionTemplate = transactionTemplate;
+        this.billJobExecutor = billJobExecutor;
+        this.owner = resolveOwner();
+    }
+
+    /**
+     * 해당 월 청구서 생성 (카드 ID 구간 파티션)
+     *
+     * @param triggerType MANUAL 이면 이미 완료된 작업의 파티션을 지우고 처음부터 다시 실행
+     * @return 이 인스턴스가 생성한 청구서 수
+     */
+    public int createBills(String chargeMonth, TriggerType triggerType) {
+        return run(JobType.CREATE_BILLS, chargeMonth, triggerType);
+    }
+
+    /**
+     * 해당 월 활성 청구서 확정 (청구서 ID 구간 파티션)
+     *
+     * @param triggerType MANUAL 이면 이미 완료된 작업의 파티션을 지우고 처음부터 다시 실행
+     * @return 이 인스턴스가 확정한 청구서 수
+     */
+    public int closeBills(String chargeMonth, TriggerType triggerType) {
+        return run(JobType.CLOSE_BILLS, chargeMonth, triggerType);
+    }
+
+    /**
+     * 실행 이력 조회 (최근 순)
+     */
+    public List<CardBillJobRunResponse> getRuns(JobType jobType, String chargeMonth, int limit) {
+        return runRepository.findRecent(jobType, chargeMonth, PageRequest.of(0, limit)).stream()
+                .map(CardBillJobRunResponse::from)
+                .toList();
+    }
+
+    /**
+     * 파티션 진행 현황 조회
+     */
+    public List<CardBillJobPartitionResponse> getPartitions(JobType jobType, String chargeMonth) {
+        return partitionRepository.findByJobTypeAndChargeMonthOrderByPartitionNo(jobType, chargeMonth).stream()
+                .map(CardBillJobPartitionResponse::from)
+                .toList();
+    }
+
+    private int run(JobType jobType, String chargeMonth, TriggerType triggerType) {
+        long startedAt = System.nanoTime();
+        CardBillJobRun jobRun = runRepository.save(CardBillJobRun.start(jobType, chargeMonth, triggerType, owner));
+        RunContext context = new RunContext(jobType, chargeMonth);
+
+        try {
+            preparePartitions(jobType, chargeMonth, triggerType == TriggerType.MANUAL);
+
+            // 워커 수만큼 파티션 소비 루프를 띄우고, 임대할 파티션이 없으면 종료한다
+            int workers = billJobExecutor.getMaxPoolSize();
+            List<CompletableFuture<Void>> futures = new ArrayList<>(workers);
+            for (int i = 0; i < workers; i++) {
+                futures.add(CompletableFuture.runAsync(() -> drainPartitions(context), billJobExecutor));
+            }
+            futures.forEach(CompletableFuture::join);
+        } catch (RuntimeException e) {
+            // 파티션 등록 실패 등 - 실패로 기록 후 전달
+            context.aborted = true;
+            throw e;
+        } finally {
+            long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+            jobRun.finish(context.processed.get(), context.completedPartitions.get(),
+                    context.failedPartitionIds.size(), context.aborted, elapsedMs);
+            runRepository.save(jobRun);
+
+            log.info("청구서 작업 종료 - runId: {}, job: {}, chargeMonth: {}, owner: {}, 상태: {}, 처리: {}, " +
+                            "완료 파티션: {}, 실패 파티션: {}, elapsedMs: {}",
+                    jobRun.getId(), jobType, chargeMonth, owner, jobRun.getStatus(), jobRun.getProcessedCount(),
+                    jobRun.getCompletedPartitions(), jobRun.getFailedPartitions(), elapsedMs);
+        }
+        return context.processed.get();
+    }
+
+    /**
+     * 파티션 등록 (작업/청구월당 한 번)
+     * 여러 인스턴스가 동시에 등록하면 유니크 제약으로 한 인스턴스의 등록만 커밋된다.
+     */
+    private void preparePartitions(JobType jobType, String chargeMonth, boolean rerunCompleted) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (rerunCompleted
+                    && partitionRepository.countByJobTypeAndChargeMonth(jobType, chargeMonth) > 0
+                    && partitionRepository.countByJobTypeAndChargeMonthAndStatusNot(
+                            jobType, chargeMonth, CardBillJobPartition.PartitionStatus.DONE) == 0) {
+                partitionRepository.deleteByJobTypeAndChargeMonth(jobType, chargeMonth);
+                log.info("완료된 청구서 작업 재실행 - job: {}, chargeMonth: {}", jobType, chargeMonth);
+            }
+        });
+
+        if (partitionRepository.countByJobTypeAndChargeMonth(jobType, chargeMonth) > 0) {
+            return;
+        }
+
+        Long minId = jobType == JobType.CREATE_BILLS
+                ? cardRepository.findMinId()
+                : cardBillRepository.findMinActiveBillId(chargeMonth);
+        Long maxId = jobType == JobType.CREATE_BILLS
+                ? cardRepository.findMaxId()
+                : cardBillRepository.findMaxActiveBillId(chargeMonth);
+
+        List<CardBillJobPartition> partitions = split(jobType, chargeMonth, minId, maxId);
+        try {
+            transactionTemplate.executeWithoutResult(status -> partitionRepository.saveAllAndFlush(partitions));
+            log.info("청구서 작업 파티션 등록 - job: {}, chargeMonth: {}, partitions: {}, range: {} ~ {}",
+                    jobType, chargeMonth, partitions.size(), minId, maxId);
+        } catch (DataIntegrityViolationException e) {
+            log.info("다른 인스턴스가 파티션을 먼저 등록함 - job: {}, chargeMonth: {}", jobType, chargeMonth);
+        }
+    }
+
+    /**
+     * ID 구간을 균등 분할 (마지막 파티션은 이후 추가되는 ID 까지 포함)
+     */
+    private List<CardBillJobPartition> split(JobType jobType, String chargeMonth, Long minId, Long maxId) {
+        List<CardBillJobPartition> partitions = new ArrayList<>(partitionCount);
+        if (minId == null || maxId == null) {
+            partitions.add(partition(jobType, chargeMonth, 0, 0L, Long.MAX_VALUE));
+            return partitions;
+        }
+
+        long start = minId - 1;
+        long span = maxId - start;
+        int count = (int) Math.max(1, Math.min(partitionCount, span));
+        long size = (span + count - 1) / count;
+
+        for (int i = 0; i < count; i++) {
+            long end = i == count - 1 ? Long.MAX_VALUE : start + size;
+            partitions.add(partition(jobType, chargeMonth, i, start, end));
+            start = end;
+        }
+        return partitions;
+    }
+
+    private CardBillJobPartition partition(JobType jobType, String chargeMonth, int partitionNo, long rangeStart, long rangeEnd) {
+        return CardBillJobPartition.builder()
+                .jobType(jobType)
+                .chargeMonth(chargeMonth)
+                .partitionNo(partitionNo)
+                .rangeStart(rangeStart)
+                .rangeEnd(rangeEnd)
+                .build();
+    }
+
+    /**
+     * 임대 가능한 파티션이 없을 때까지 처리
+     */
+    private void drainPartitions(RunContext context) {
+        Optional<CardBillJobPartition> partition;
+        while ((partition = claimNext(context)).isPresent()) {
+            process(partition.get(), context);
+        }
+    }
+
+    private Optional<CardBillJobPartition> claimNext(RunContext context) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Long id : partitionRepository.findClaimableIds(context.jobType, context.chargeMonth, now)) {
+            // 이번 실행에서 실패한 파티션은 다시 잡지 않음 (다음 실행에서 체크포인트부터 재시도)
+            if (context.failedPartitionIds.contains(id)) {
+                continue;
+            }
+            Optional<CardBillJobPartition> claimed = transactionTemplate.execute(status -> {
+                if (partitionRepository.claim(id, owner, now, now.plusSeconds(leaseSeconds)) == 0) {
+                    return Optional.empty();
+                }
+                return partitionRepository.findById(id);
+            });
+            if (claimed != null && claimed.isPresent()) {
+                return claimed;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void process(CardBillJobPartition partition, RunContext context) {
+        Long partitionId = partition.getId();
+        CardBillBatchService.ChunkListener checkpoint = (lastId, count) -> {
+            // 청크는 이미 커밋되었으므로 이 기록이 실패해도 재실행 시 해당 청크는 anti-join/상태 조건으로 제외된다
+            Integer updated = transactionTemplate.execute(status -> partitionRepository.checkpoint(
+                    partitionId, owner, LocalDateTime.now().plusSeconds(leaseSeconds), lastId, count));
+            context.processed.addAndGet(count);
+            if (updated == null || updated == 0) {
+                throw new IllegalStateException("파티션 임대를 잃었습니다 - partitionId: " + partitionId);
+            }
+        };
+
+        long resumeFrom = partition.resumeFrom();
+        if (resumeFrom > partition.getRangeStart()) {
+            log.info("청구서 작업 파티션 체크포인트부터 재개 - job: {}, chargeMonth: {}, partition: {}, checkpoint: {}",
+                    partition.getJobType(), partition.getChargeMonth(), partition.getPartitionNo(), resumeFrom);
+        }
+
+        try {
+            int processed = switch (partition.getJobType()) {
+                case CREATE_BILLS -> cardBillBatchService.createBills(
+                        partition.getChargeMonth(), resumeFrom, partition.getRangeEnd(), checkpoint);
+                case CLOSE_BILLS -> cardBillBatchService.closeBills(
+                        partition.getChargeMonth(), resumeFrom, partition.getRangeEnd(), checkpoint);
+            };
+            transactionTemplate.executeWithoutResult(status ->
+                    partitionRepository.complete(partitionId, owner, LocalDateTime.now()));
+            context.completedPartitions.incrementAndGet();
+            log.debug("청구서 작업 파티션 완료 - job: {}, chargeMonth: {}, partition: {}, 처리: {}",
+                    partition.getJobType(), partition.getChargeMonth(), partition.getPartitionNo(), processed);
+        } catch (Exception e) {
+            context.failedPartitionIds.add(partitionId);
+            log.error("청구서 작업 파티션 실패 - job: {}, chargeMonth: {}, partition: {}, error: {}",
+                    partition.getJobType(), partition.getChargeMonth(), partition.getPartitionNo(), e.getMessage(), e);
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        partitionRepository.fail(partitionId, owner, truncate(e.getMessage())));
+            } catch (Exception recordError) {
+                // 기록 실패 시 임대 만료 후 다시 임대된다
+                log.error("청구서 작업 파티션 실패 기록 중 오류 - partitionId: {}", partitionId, recordError);
+            }
+        }
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > 500 ? message.substring(0, 500) : message;
+    }
+
+    private static String resolveOwner() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        String value = host + ":" + ProcessHandle.current().pid();
+        return value.length() > 100 ? value.substring(value.length() - 100) : value;
+    }
+
+    /**
+     * 실행 1건의 진행 상태 (워커 간 공유)
+     */
+    private static class RunContext {
+
+        private final JobType jobType;
+        private final String chargeMonth;
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger completedPartitions = new AtomicInteger();
+        private final Set<Long> failedPartitionIds = ConcurrentHashMap.newKeySet();
+        private volatile boolean aborted;
+
+        RunContext(JobType jobType, String chargeMonth) {
+            this.jobType = jobType;
+            this.chargeMonth = chargeMonth;
+        }
+    }
+}
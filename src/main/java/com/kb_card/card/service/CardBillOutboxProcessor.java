@@ -0,0 +1,165 @@
+package com.kb_card.card.service;
+
+import com.kb_card.card.entity.CardBillDeadLetter;
+import com.kb_card.card.entity.CardBillOutbox;
+import com.kb_card.card.repository.CardBillDeadLetterRepository;
+import com.kb_card.card.repository.CardBillOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 청구서 반영 대기열(outbox) 처리기
+ * 거래 저장 시 함께 기록된 outbox 건을 배치 단위로 읽어 워커 풀에서 청구서에 반영한다.
+ * 반영과 outbox 삭제는 같은 트랜잭션에서 커밋되므로 반영 누락/중복이 없고,
+ * 실패 건은 지수 백오프로 재시도하다 한도를 넘으면 dead-letter 테이블로 이동한다.
+ */
+@Slf4j
+@Service
+public class CardBillOutboxProcessor {
+
+    private final CardBillOutboxRepository cardBillOutboxRepository;
+    private final CardBillDeadLetterRepository cardBillDeadLetterRepository;
+    private final CardBillService cardBillService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor billPostingExecutor;
+
+    @Value("${card.bill-outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${card.bill-outbox.conflict-retries:3}")
+    private int conflictRetries;
+
+    @Value("${card.bill-outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${card.bill-outbox.backoff-base-seconds:5}")
+    private long backoffBaseSeconds;
+
+    @Value("${card.bill-outbox.backoff-max-seconds:3600}")
+    private long backoffMaxSeconds;
+
+    public CardBillOutboxProcessor(CardBillOutboxRepository cardBillOutboxRepository,
+                                   CardBillDeadLetterRepository cardBillDeadLetterRepository,
+                                   CardBillService cardBillService,
+                                   TransactionTemplate transactionTemplate,
+                                   @Qualifier("billPostingExecutor") ThreadPoolTaskExecutor billPostingExecutor) {
+        this.cardBillOutboxRepository = cardBillOutboxRepository;
+        this.cardBillDeadLetterRepository = cardBillDeadLetterRepository;
+        this.cardBillService = cardBillService;
+        this.transactionTemplate = transactionTemplate;
+        this.billPostingExecutor = billPostingExecutor;
+    }
+
+    /**
+     * 반영 시각이 도래한 outbox 건 배치 처리
+     */
+    @Scheduled(fixedDelayString = "${card.bill-outbox.poll-delay-ms:1000}")
+    public void drain() {
+        int processed = 0;
+        List<Long> dueIds;
+
+        do {
+            dueIds = cardBillOutboxRepository.findDueIds(LocalDateTime.now(), PageRequest.of(0, batchSize));
+            if (dueIds.isEmpty()) {
+                break;
+            }
+
+            // 배치 내 건은 워커 풀에서 병렬 처리하고, 배치가 끝나야 다음 배치를 조회한다.
+            CompletableFuture<?>[] futures = dueIds.stream()
+                    .map(id -> CompletableFuture.runAsync(() -> process(id), billPostingExecutor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+
+            processed += dueIds.size();
+        } while (dueIds.size() == batchSize);
+
+        if (processed > 0) {
+            log.info("청구서 반영 대기열 처리 완료 - 처리 건수: {}", processed);
+        }
+    }
+
+    /**
+     * outbox 단건 처리
+     */
+    void process(Long outboxId) {
+        try {
+            postWithRetry(outboxId);
+        } catch (Exception e) {
+            log.warn("청구서 반영 실패 - outboxId: {}, error: {}", outboxId, e.getMessage());
+            try {
+                transactionTemplate.executeWithoutResult(status -> recordFailure(outboxId, e));
+            } catch (Exception recordError) {
+                log.error("청구서 반영 실패 기록 중 오류 - outboxId: {}", outboxId, recordError);
+            }
+        }
+    }
+
+    /**
+     * 동시 반영 충돌(낙관적 잠금, 청구서 동시 생성)은 새 트랜잭션으로 즉시 재시도
+     */
+    private void postWithRetry(Long outboxId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> post(outboxId));
+                return;
+            } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+                if (attempt >= conflictRetries) {
+                    throw e;
+                }
+                log.debug("청구서 반영 충돌, 재시도 - outboxId: {}, attempt: {}", outboxId, attempt);
+                sleepQuietly(ThreadLocalRandom.current().nextLong(5, 20L * attempt));
+            }
+        }
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void post(Long outboxId) {
+        // 다른 워커/인스턴스가 잠근 건이거나 이미 처리된 건이면 건너뜀
+        cardBillOutboxRepository.findByIdForUpdate(outboxId).ifPresent(outbox -> {
+            cardBillService.addTransactionToBill(outbox.getCardTransaction());
+            cardBillOutboxRepository.delete(outbox);
+        });
+    }
+
+    private void recordFailure(Long outboxId, Exception cause) {
+        cardBillOutboxRepository.findById(outboxId).ifPresent(outbox -> {
+            LocalDateTime nextAttemptAt = LocalDateTime.now().plusSeconds(backoffSeconds(outbox.getAttemptCount()));
+            outbox.markFailed(cause.getMessage(), nextAttemptAt);
+
+            if (outbox.getAttemptCount() >= maxAttempts) {
+                cardBillDeadLetterRepository.save(CardBillDeadLetter.of(outbox));
+                cardBillOutboxRepository.delete(outbox);
+                log.error("청구서 반영 재시도 한도 초과, dead-letter 이동 - outboxId: {}, transactionId: {}, attempts: {}",
+                        outboxId, outbox.getCardTransaction().getTransactionId(), outbox.getAttemptCount());
+            }
+        });
+    }
+
+    /**
+     * 재시도 대기 시간 (지수 백오프)
+     */
+    private long backoffSeconds(int attemptCount) {
+        long backoff = backoffBaseSeconds << Math.min(attemptCount, 20);
+        return Math.min(backoff, backoffMaxSeconds);
+    }
+}
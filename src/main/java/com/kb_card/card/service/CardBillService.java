@@ -11,6 +11,9 @@ import com.kb_card.common.exception.BusinessException;
 import com.kb_card.common.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -44,9 +47,10 @@ public class CardBillService {
                 throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND);
             }
             
-            // 2. 현재 달 활성 청구서 조회 또는 생성
-            String currentMonth = getCurrentMonth();
-            CardBill activeBill = getOrCreateActiveBill(card, currentMonth);
+            // 2. 거래일 기준 청구월의 활성 청구서 조회 또는 생성
+            // (반영은 비동기이므로 처리 시점이 아니라 거래일로 청구월을 정한다)
+            String chargeMonth = getChargeMonth(transaction);
+            CardBill activeBill = getOrCreateActiveBill(card, chargeMonth);
             
             // 3. 청구서 상세 내역 생성
             CardBillDetail billDetail = createBillDetailFromTransaction(activeBill, transaction);
@@ -54,13 +58,21 @@ public class CardBillService {
             // 4. 청구서 상세 내역 저장
             cardBillDetailRepository.save(billDetail);
             
-            // 5. 청구서 총액 업데이트
-            activeBill.addBillDetail(billDetail);
-            cardBillRepository.save(activeBill);
+            // 5. 청구서 총액 업데이트 (DB 측 원자적 증감, 상세 내역 컬렉션은 로딩하지 않음)
+            int updated = cardBillRepository.addChargeAmt(activeBill.getId(), billDetail.getPaidAmt());
+            if (updated == 0) {
+                // 조회 이후 청구서가 확정된 경우 - 재시도 시 새 활성 청구서에 반영
+                throw new ObjectOptimisticLockingFailureException(CardBill.class, activeBill.getId());
+            }
             
-            log.info("거래 청구서 반영 완료 - transactionId: {}, cardNo: {}, 현재 청구서 총액: {}", 
-                    transaction.getTransactionId(), transaction.getCardNo(), activeBill.getChargeAmt());
+            log.info("거래 청구서 반영 완료 - transactionId: {}, cardNo: {}, billId: {}, 반영 금액: {}", 
+                    transaction.getTransactionId(), transaction.getCardNo(), activeBill.getId(), billDetail.getPaidAmt());
             
+        } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+            // 동시 반영 충돌은 호출 측에서 새 트랜잭션으로 재시도할 수 있도록 그대로 전달
+            log.warn("거래 청구서 반영 충돌 - transactionId: {}, error: {}", 
+                    transaction.getTransactionId(), e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("거래 청구서 반영 실패 - transactionId: {}, error: {}", 
                     transaction.getTransactionId(), e.getMessage(), e);
@@ -69,26 +81,25 @@ public class CardBillService {
     }
     
     /**
-     * 현재 달 활성 청구서 조회 또는 생성
+     * 청구월 활성 청구서 조회 또는 생성
+     * 해당 청구월이 이미 확정된 경우(마감 후 도착한 거래)에는 현재 달 청구서로 이월한다.
      */
-    private CardBill getOrCreateActiveBill(Card card, String currentMonth) {
-        // 기존 활성 청구서 조회
-        Optional<CardBill> existingBill = cardBillRepository.findActiveCardBill(card);
-        
+    private CardBill getOrCreateActiveBill(Card card, String chargeMonth) {
+        // 청구월 활성 청구서 조회
+        Optional<CardBill> existingBill = cardBillRepository.findActiveCardBillByMonth(card, chargeMonth);
         if (existingBill.isPresent()) {
-            CardBill bill = existingBill.get();
-            // 청구서가 현재 달인지 확인
-            if (bill.getChargeMonth().equals(currentMonth)) {
-                return bill;
-            } else {
-                // 다른 달 청구서면 새로 생성
-                log.warn("활성 청구서가 현재 달이 아님 - cardNo: {}, billMonth: {}, currentMonth: {}", 
-                        card.getCardNo(), bill.getChargeMonth(), currentMonth);
-            }
+            return existingBill.get();
+        }
+        
+        String currentMonth = getCurrentMonth();
+        if (!chargeMonth.equals(currentMonth) && cardBillRepository.existsByCardAndChargeMonth(card, chargeMonth)) {
+            log.warn("확정된 청구월 거래 이월 - cardNo: {}, chargeMonth: {}, currentMonth: {}", 
+                    card.getCardNo(), chargeMonth, currentMonth);
+            return getOrCreateActiveBill(card, currentMonth);
         }
         
         // 새로운 청구서 생성
-        return createNewBill(card, currentMonth);
+        return createNewBill(card, chargeMonth);
     }
     
     /**
@@ -149,7 +160,7 @@ public class CardBillService {
     /**
      * 가맹점명 마스킹 처리
      */
-    private String maskMerchantName(String merchantName) {
+    static String maskMerchantName(String merchantName) {
         if (merchantName == null || merchantName.length() <= 2) {
             return merchantName;
         }
@@ -174,6 +185,13 @@ public class CardBillService {
         };
     }
     
+    /**
+     * 거래일 기준 청구월 (YYYYMM)
+     */
+    static String getChargeMonth(CardTransaction transaction) {
+        return transaction.getTranDate().format(DateTimeFormatter.ofPattern("yyyyMM"));
+    }
+    
     /**
      * 현재 월 조회 (YYYYMM)
      */
@@ -184,7 +202,7 @@ public class CardBillService {
     /**
      * 결제 예정일 계산 (YYYYMMDD)
      */
-    private String calculateSettlementDate(String chargeMonth, String settlementDay) {
+    static String calculateSettlementDate(String chargeMonth, String settlementDay) {
         try {
             // 다음 달 결제일 계산
             LocalDate chargeDate = LocalDate.parse(chargeMonth + "01", DateTimeFormatter.ofPattern("yyyyMMdd"));
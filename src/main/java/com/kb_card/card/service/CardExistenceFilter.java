@@ -0,0 +1,254 @@
+package com.kb_card.card.service;
+
+import com.kb_card.card.repository.CardRepository;
+import com.kb_card.card.repository.CardUserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 사용자 CI / 카드번호 존재 여부 필터 (Bloom filter)
+ * KFTC 에서 들어오는 미보유 CI, 미등록 카드번호 요청을 DB 조회 없이 걸러낸다.
+ * 첫 재구성이 끝나기 전에는 항상 "있을 수 있음"으로 응답하므로 기존 조회 흐름을 그대로 탄다.
+ * 사용자/카드는 외부에서도 등록되므로 주기적으로 전체를 다시 읽어 재구성하고,
+ * 그 사이에는 created_at 기준으로 최근 등록분만 짧은 주기로 읽어 현재 필터에 추가한다.
+ * 증분 조회는 마지막 조회 시각에서 card.existence-filter.delta-overlap-ms 만큼 겹쳐 읽어
+ * 늦게 커밋된 행이나 서버 간 시각 차이로 빠지는 키가 없도록 한다.
+ */
+@Slf4j
+@Component
+public class CardExistenceFilter {
+
+    private final CardUserRepository cardUserRepository;
+    private final CardRepository cardRepository;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    private final Segment userCis;
+    private final Segment cardNos;
+
+    @Value("${card.existence-filter.enabled:true}")
+    private boolean enabled;
+
+    @Value("${card.existence-filter.fpp:0.01}")
+    private double targetFpp;
+
+    @Value("${card.existence-filter.growth-factor:1.5}")
+    private double growthFactor;
+
+    @Value("${card.existence-filter.delta-overlap-ms:60000}")
+    private long deltaOverlapMs;
+
+    /**
+     * 다음 증분 조회 기준 시각 (첫 전체 재구성 전에는 null)
+     */
+    private volatile LocalDateTime deltaWatermark;
+
+    public CardExistenceFilter(CardUserRepository cardUserRepository,
+                               CardRepository cardRepository,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.cardUserRepository = cardUserRepository;
+        this.cardRepository = cardRepository;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.userCis = new Segment("user_ci", meterRegistry);
+        this.cardNos = new Segment("card_no", meterRegistry);
+    }
+
+    /**
+     * 사용자 CI 보유 가능성 (false 이면 확실히 없음)
+     */
+    public boolean mightContainUserCi(String userCi) {
+        return !enabled || userCi == null || userCis.mightContain(userCi);
+    }
+
+    /**
+     * 카드번호 보유 가능성 (false 이면 확실히 없음)
+     */
+    public boolean mightContainCardNo(String cardNo) {
+        return !enabled || cardNo == null || cardNos.mightContain(cardNo);
+    }
+
+    /**
+     * 신규 사용자 등록 시 호출
+     */
+    public void registerUserCi(String userCi) {
+        userCis.put(userCi);
+    }
+
+    /**
+     * 신규 카드 발급 시 호출
+     */
+    public void registerCardNo(String cardNo) {
+        cardNos.put(cardNo);
+    }
+
+    /**
+     * 필터에서 미보유로 판정되었지만 DB 에 있던 카드번호 (다음 증분 조회 전에 등록된 카드)
+     */
+    public void recoverCardNo(String cardNo) {
+        cardNos.recover(cardNo);
+    }
+
+    /**
+     * 기동 직후 및 주기적으로 전체 재구성
+     */
+    @Scheduled(initialDelayString = "${card.existence-filter.initial-delay-ms:0}",
+               fixedDelayString = "${card.existence-filter.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            userCis.rebuild(cardUserRepository::count, cardUserRepository::streamAllUserCis);
+            cardNos.rebuild(cardRepository::count, cardRepository::streamAllCardNos);
+            if (deltaWatermark == null) {
+                deltaWatermark = startedAt;
+            }
+        } catch (Exception e) {
+            // 실패 시 이전 필터를 그대로 사용
+            log.error("존재 여부 필터 재구성 실패 - error: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 최근 등록된 사용자 CI / 카드번호를 현재 필터에 추가 (created_at 인덱스 범위 조회)
+     */
+    @Scheduled(initialDelayString = "${card.existence-filter.delta-interval-ms:5000}",
+               fixedDelayString = "${card.existence-filter.delta-interval-ms:5000}")
+    public void refreshRecent() {
+        LocalDateTime watermark = deltaWatermark;
+        if (!enabled || watermark == null) {
+            return;
+        }
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = watermark.minusNanos(deltaOverlapMs * 1_000_000L);
+        try {
+            List<String> newUserCis = cardUserRepository.findUserCisCreatedSince(since);
+            List<String> newCardNos = cardRepository.findCardNosCreatedSince(since);
+            newUserCis.forEach(userCis::put);
+            newCardNos.forEach(cardNos::put);
+            deltaWatermark = startedAt;
+            log.debug("존재 여부 필터 증분 반영 - since: {}, userCis: {}, cardNos: {}",
+                    since, newUserCis.size(), newCardNos.size());
+        } catch (Exception e) {
+            // 기준 시각을 유지해 다음 주기에 같은 구간부터 다시 읽는다
+            log.warn("존재 여부 필터 증분 반영 실패 - since: {}, error: {}", since, e.getMessage());
+        }
+    }
+
+    /**
+     * 키 종류별 필터 (교체 가능한 Bloom filter + 지표)
+     */
+    private class Segment {
+
+        private final String name;
+        private final Timer rebuildTimer;
+        private final Counter rejectedCounter;
+        private final Counter falseNegativeCounter;
+        private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+        private volatile BloomFilter current;
+        private volatile BloomFilter building;
+
+        Segment(String name, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.rebuildTimer = Timer.builder("card.existence.filter.rebuild")
+                    .description("존재 여부 필터 재구성 소요 시간")
+                    .tag("filter", name)
+                    .register(meterRegistry);
+            this.rejectedCounter = Counter.builder("card.existence.filter.rejected")
+                    .description("필터에서 미보유로 판정된 건수")
+                    .tag("filter", name)
+                    .register(meterRegistry);
+            this.falseNegativeCounter = Counter.builder("card.existence.filter.false_negative")
+                    .description("필터에서 미보유로 판정되었으나 DB 에 있던 건수 (증분 반영 전 등록분)")
+                    .tag("filter", name)
+                    .register(meterRegistry);
+            Gauge.builder("card.existence.filter.size", this, s -> s.current != null ? s.current.approximateSize() : 0)
+                    .description("필터에 적재된 키 수 (근사)")
+                    .tag("filter", name)
+                    .register(meterRegistry);
+            Gauge.builder("card.existence.filter.bytes", this, s -> s.current != null ? s.current.sizeInBytes() : 0)
+                    .description("필터 비트 배열 크기")
+                    .tag("filter", name)
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+            Gauge.builder("card.existence.filter.fpp", this, s -> s.current != null ? s.current.expectedFpp() : 1.0)
+                    .description("현재 적재 건수 기준 예상 오탐률")
+                    .tag("filter", name)
+                    .register(meterRegistry);
+        }
+
+        boolean mightContain(String key) {
+            BloomFilter filter = current;
+            if (filter == null || filter.mightContain(key)) {
+                return true;
+            }
+            rejectedCounter.increment();
+            return false;
+        }
+
+        void put(String key) {
+            if (key == null) {
+                return;
+            }
+            BloomFilter filter = current;
+            if (filter != null) {
+                filter.put(key);
+            }
+            // 재구성 중 등록된 키도 새 필터에 반영
+            BloomFilter next = building;
+            if (next != null) {
+                next.put(key);
+            }
+        }
+
+        void recover(String key) {
+            falseNegativeCounter.increment();
+            put(key);
+        }
+
+        void rebuild(LongSupplier counter, Supplier<Stream<String>> keys) {
+            if (!rebuilding.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                Timer.Sample sample = Timer.start();
+                long expected = (long) Math.ceil(Math.max(counter.getAsLong(), 1000L) * growthFactor);
+                BloomFilter next = BloomFilter.create(expected, targetFpp);
+                building = next;
+
+                readOnlyTransactionTemplate.executeWithoutResult(status -> {
+                    try (Stream<String> stream = keys.get()) {
+                        stream.forEach(next::put);
+                    }
+                });
+
+                current = next;
+                long elapsedNanos = sample.stop(rebuildTimer);
+                log.info("존재 여부 필터 재구성 완료 - filter: {}, size: {}, bytes: {}, fpp: {}, elapsedMs: {}",
+                        name, next.approximateSize(), next.sizeInBytes(),
+                        String.format("%.5f", next.expectedFpp()), elapsedNanos / 1_000_000);
+            } finally {
+                building = null;
+                rebuilding.set(false);
+            }
+        }
+    }
+}
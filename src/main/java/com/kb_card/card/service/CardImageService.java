@@ -0,0 +1,172 @@
+package com.kb_card.card.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kb_card.card.repository.CardProductImageRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 카드 상품 이미지 제공
+ * 상품 이미지(LOB)는 상품별로 한 번만 읽어 바이트 캐시에 보관하고,
+ * 목록 응답에는 내용 해시가 붙은 조회 URL만 내려 클라이언트/게이트웨이 캐시를 활용한다.
+ */
+@Slf4j
+@Service
+public class CardImageService {
+
+    private static final String DATA_URI_PREFIX = "data:";
+    private static final int VERSION_LENGTH = 12;
+
+    private final CardProductImageRepository cardProductImageRepository;
+    private final Cache<String, CardImage> images;
+    private final String imageBaseUrl;
+
+    public CardImageService(CardProductImageRepository cardProductImageRepository,
+                            @Value("${card.image.base-url:/v2.0/cards/images/}") String imageBaseUrl,
+                            @Value("${card.image.cache-max-bytes:33554432}") long cacheMaxBytes,
+                            @Value("${card.image.cache-ttl-seconds:3600}") long cacheTtlSeconds) {
+        this.cardProductImageRepository = cardProductImageRepository;
+        this.imageBaseUrl = imageBaseUrl.endsWith("/") ? imageBaseUrl : imageBaseUrl + "/";
+        this.images = Caffeine.newBuilder()
+                .maximumWeight(cacheMaxBytes)
+                .weigher((String productCode, CardImage image) -> image.getBytes().length)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 상품코드의 카드 이미지 조회 (캐시 미스 시 DB 조회)
+     */
+    public Optional<CardImage> getImage(String productCode) {
+        if (productCode == null) {
+            return Optional.empty();
+        }
+
+        CardImage cached = images.getIfPresent(productCode);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<CardImage> loaded = cardProductImageRepository.findCardImageByProductCode(productCode)
+                .filter(image -> !image.isBlank())
+                .map(CardImageService::decode);
+        loaded.ifPresent(image -> images.put(productCode, image));
+        return loaded;
+    }
+
+    /**
+     * 목록 응답에 싣는 카드 이미지 URL (내용이 바뀌면 v 파라미터가 바뀜)
+     * 이미지가 외부 URL로 저장된 상품은 그 URL을 그대로 사용한다.
+     */
+    public String getImageUrl(String productCode) {
+        return getImage(productCode)
+                .map(image -> image.getRedirectUrl() != null
+                        ? image.getRedirectUrl()
+                        : imageBaseUrl + productCode + "?v=" + image.getEtag().substring(0, VERSION_LENGTH))
+                .orElse(null);
+    }
+
+    /**
+     * 상품 이미지 변경 시 캐시 무효화
+     */
+    public void invalidate(String productCode) {
+        images.invalidate(productCode);
+    }
+
+    /**
+     * 저장된 이미지 문자열을 바이트로 변환
+     * data URI, base64 문자열, 외부 URL(http/https) 형태를 지원한다.
+     */
+    static CardImage decode(String stored) {
+        String value = stored.trim();
+
+        if (value.startsWith("http://") || value.startsWith("https://")) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            return new CardImage(bytes, MediaType.TEXT_PLAIN_VALUE, sha256(bytes), value);
+        }
+
+        String contentType = null;
+        String base64 = value;
+        if (value.startsWith(DATA_URI_PREFIX)) {
+            int comma = value.indexOf(',');
+            String header = value.substring(DATA_URI_PREFIX.length(), Math.max(comma, DATA_URI_PREFIX.length()));
+            int semicolon = header.indexOf(';');
+            contentType = semicolon >= 0 ? header.substring(0, semicolon) : header;
+            base64 = comma >= 0 ? value.substring(comma + 1) : "";
+        }
+
+        byte[] bytes;
+        try {
+            bytes = Base64.getMimeDecoder().decode(base64);
+        } catch (IllegalArgumentException e) {
+            // base64 가 아니면 저장된 문자열 그대로 제공 (예: SVG 원문)
+            bytes = value.getBytes(StandardCharsets.UTF_8);
+            contentType = value.startsWith("<") ? "image/svg+xml" : MediaType.TEXT_PLAIN_VALUE;
+        }
+
+        if (contentType == null || contentType.isBlank()) {
+            contentType = detectContentType(bytes);
+        }
+        return new CardImage(bytes, contentType, sha256(bytes), null);
+    }
+
+    private static String detectContentType(byte[] bytes) {
+        if (bytes.length >= 4 && (bytes[0] & 0xff) == 0x89 && bytes[1] == 'P' && bytes[2] == 'N' && bytes[3] == 'G') {
+            return MediaType.IMAGE_PNG_VALUE;
+        }
+        if (bytes.length >= 3 && (bytes[0] & 0xff) == 0xff && (bytes[1] & 0xff) == 0xd8 && (bytes[2] & 0xff) == 0xff) {
+            return MediaType.IMAGE_JPEG_VALUE;
+        }
+        if (bytes.length >= 3 && bytes[0] == 'G' && bytes[1] == 'I' && bytes[2] == 'F') {
+            return MediaType.IMAGE_GIF_VALUE;
+        }
+        if (bytes.length >= 1 && bytes[0] == '<') {
+            return "image/svg+xml";
+        }
+        return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 캐시되는 카드 이미지
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class CardImage {
+
+        private final byte[] bytes;
+
+        private final String contentType;
+
+        /**
+         * 내용 SHA-256 (hex)
+         */
+        private final String etag;
+
+        /**
+         * 외부 URL로 저장된 이미지인 경우 해당 URL
+         */
+        private final String redirectUrl;
+    }
+}
@@ -0,0 +1,147 @@
+package com.kb_card.card.service;
+
+import com.kb_card.card.dto.BillDetailInfoView;
+import com.kb_card.card.dto.BillInfoView;
+import com.kb_card.card.dto.CardBillDetailRequest;
+import com.kb_card.card.dto.CardBillDetailResponse;
+import com.kb_card.card.dto.CardBillsRequest;
+import com.kb_card.card.dto.CardBillsResponse;
+import com.kb_card.card.dto.CardInfoView;
+import com.kb_card.card.dto.CardListResponse;
+import com.kb_card.card.entity.CardProduct;
+import com.kb_card.card.repository.CardBillDetailRepository;
+import com.kb_card.card.repository.CardBillRepository;
+import com.kb_card.card.repository.CardProductImageRepository;
+import com.kb_card.card.repository.CardProductRepository;
+import com.kb_card.card.repository.CardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * KFTC 카드/청구 조회의 DB 조회 부분
+ * CardUserService 가 SingleFlight 로 동시 조회를 합친 뒤 호출하므로, 읽기 전용 트랜잭션(커넥션)은
+ * 실제로 조회를 실행하는 요청만 연다. 같은 키로 기다리는 요청은 커넥션 없이 결과만 받는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CardInquiryLoader {
+
+    private final CardRepository cardRepository;
+    private final CardBillRepository cardBillRepository;
+    private final CardBillDetailRepository cardBillDetailRepository;
+    private final CardProductRepository cardProductRepository;
+    private final CardProductImageRepository cardProductImageRepository;
+    private final CardImageService cardImageService;
+
+    /**
+     * 데이터베이스에서 사용자 카드 목록 조회 (카드 이미지 LOB 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<CardListResponse.CardInfo> loadCardInfoList(String userCi) {
+        List<CardInfoView> userCards = cardRepository.findCardInfoViewsByUserCi(userCi);
+        log.info("사용자 카드 조회 완료 - userCi: {}, 카드 수: {}", userCi, userCards.size());
+
+        // 카드 목록을 응답 형태로 변환 (상품은 2차 캐시에서 조회, 카드 이미지는 상품별 조회 URL로 대체)
+        Map<String, CardProduct> products = new HashMap<>();
+        Map<String, String> imageUrls = new HashMap<>();
+        return userCards.stream()
+                .map(card -> CardUserService.convertToCardInfo(card,
+                        products.computeIfAbsent(card.getProductCode(),
+                                productCode -> cardProductRepository.findById(productCode).orElse(null)),
+                        imageUrls.computeIfAbsent(card.getProductCode(), cardImageService::getImageUrl)))
+                .toList();
+    }
+
+    /**
+     * 데이터베이스에서 실제 청구서 목록 조회
+     */
+    @Transactional(readOnly = true)
+    public List<CardBillsResponse.BillInfo> loadBillList(CardBillsRequest request) {
+        log.info("실제 청구서 목록 조회 시작 - userCi: {}, fromMonth: {}, toMonth: {}",
+                request.getUserCi(), request.getFromMonth(), request.getToMonth());
+
+        try {
+            // 사용자 CI로 청구서 목록 조회 (응답 컬럼만 projection)
+            List<BillInfoView> cardBills = cardBillRepository.findBillInfoViewsByUserCiAndChargeMonthRange(
+                    request.getUserCi(),
+                    request.getFromMonth(),
+                    request.getToMonth()
+            );
+
+            log.info("조회된 청구서 개수: {}", cardBills.size());
+
+            // 카드 이미지는 상품별로 한 번만 조회
+            Map<String, String> cardImages = loadCardImages(cardBills.stream().map(BillInfoView::getProductCode));
+
+            return cardBills.stream()
+                    .map(bill -> CardUserService.convertToBillInfo(bill, cardImages))
+                    .toList();
+
+        } catch (Exception e) {
+            log.error("청구서 목록 조회 실패 - userCi: {}, error: {}",
+                    request.getUserCi(), e.getMessage(), e);
+            return List.of(); // 빈 목록 반환
+        }
+    }
+
+    /**
+     * 상품코드별 카드 이미지 조회 (중복 상품코드는 한 번만 조회)
+     */
+    private Map<String, String> loadCardImages(Stream<String> productCodes) {
+        Set<String> codes = productCodes.filter(Objects::nonNull).collect(Collectors.toSet());
+        if (codes.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, String> cardImages = new HashMap<>(codes.size() * 2);
+        for (Object[] row : cardProductImageRepository.findCardImagesByProductCodes(codes)) {
+            if (row[1] != null) {
+                cardImages.put((String) row[0], (String) row[1]);
+            }
+        }
+        return cardImages;
+    }
+
+    /**
+     * 데이터베이스에서 실제 청구서 상세 목록 조회
+     */
+    @Transactional(readOnly = true)
+    public List<CardBillDetailResponse.BillDetailInfo> loadBillDetailList(CardBillDetailRequest request) {
+        log.info("실제 청구서 상세 목록 조회 시작 - userCi: {}, chargeMonth: {}, settlementSeqNo: {}",
+                request.getUserCi(), request.getChargeMonth(), request.getSettlementSeqNo());
+
+        try {
+            // 사용자 CI, 청구년월, 결제순번으로 청구서 상세 내역 조회 (응답 컬럼만 projection)
+            List<BillDetailInfoView> billDetails = cardBillDetailRepository.findBillDetailInfoViewsByUserCiAndChargeMonthAndSettlementSeqNo(
+                    request.getUserCi(),
+                    request.getChargeMonth(),
+                    request.getSettlementSeqNo()
+            );
+
+            log.info("조회된 청구서 상세 개수: {}", billDetails.size());
+
+            // 카드 이미지는 상품별로 한 번만 조회
+            Map<String, String> cardImages = loadCardImages(billDetails.stream().map(BillDetailInfoView::getProductCode));
+
+            return billDetails.stream()
+                    .map(billDetail -> CardUserService.convertToBillDetailInfo(billDetail, cardImages))
+                    .toList();
+
+        } catch (Exception e) {
+            log.error("청구서 상세 목록 조회 실패 - userCi: {}, chargeMonth: {}, settlementSeqNo: {}, error: {}",
+                    request.getUserCi(), request.getChargeMonth(), request.getSettlementSeqNo(), e.getMessage(), e);
+            return List.of(); // 빈 목록 반환
+        }
+    }
+}
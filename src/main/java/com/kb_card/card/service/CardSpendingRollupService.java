@@ -0,0 +1,172 @@
+package com.kb_card.card.service;
+
+import com.kb_card.card.entity.CardTransaction;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 카드별 일자 사용 집계(card_spending_daily) 증분 반영
+ * 거래 등록과 같은 트랜잭션에서 (카드, 일자, 카테고리, 거래구분) 행에 건수/금액을 MERGE 로 더한다.
+ * 집계 행이 없으면 새로 만들고, 있으면 누적하므로 엔티티를 적재하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CardSpendingRollupService {
+
+    private static final String ROLLUP_SEQUENCE = "card_spending_daily_seq";
+
+    private static final String MERGE_ROLLUP_SQL = mergeRollupSql("?");
+
+    /**
+     * 단건 반영용 MERGE (INSERT 분기에서 시퀀스를 직접 사용하여 ID 할당 조회를 하지 않는다)
+     * 시퀀스 값 1개가 ID 블록의 시작값이므로 SequenceIdAllocator/엔티티 ID 와 겹치지 않는다.
+     */
+    private static final String MERGE_ROLLUP_NEXTVAL_SQL = mergeRollupSql(ROLLUP_SEQUENCE + ".NEXTVAL");
+
+    private static String mergeRollupSql(String idExpression) {
+        return "MERGE INTO card_spending_daily r " +
+            "USING (SELECT ? AS card_id, ? AS stat_date, ? AS category, ? AS tran_type, " +
+            "? AS tran_count, ? AS amount_sum FROM dual) s " +
+            "ON (r.card_id = s.card_id AND r.stat_date = s.stat_date " +
+            "AND r.category = s.category AND r.tran_type = s.tran_type) " +
+            "WHEN MATCHED THEN UPDATE SET r.tran_count = r.tran_count + s.tran_count, " +
+            "r.amount_sum = r.amount_sum + s.amount_sum, r.modified_at = ? " +
+            "WHEN NOT MATCHED THEN INSERT (id, card_id, stat_date, category, tran_type, tran_count, amount_sum, " +
+            "created_at, modified_at) " +
+            "VALUES (" + idExpression + ", s.card_id, s.stat_date, s.category, s.tran_type, s.tran_count, " +
+            "s.amount_sum, ?, ?)";
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceIdAllocator sequenceIdAllocator;
+
+    /**
+     * 단건 거래 반영 (호출 측 트랜잭션에 참여, MERGE 1회)
+     * 같은 집계 행이 동시에 처음 만들어지면 한쪽이 유일키 충돌로 실패하므로,
+     * 실패한 문장만 롤백된 상태에서 한 번 더 MERGE 하여 기존 행에 누적한다.
+     */
+    public void record(CardTransaction transaction) {
+        Deltas deltas = new Deltas();
+        deltas.add(transaction.getCard().getId(), transaction.getTranDate(), transaction.getCategory(),
+                transaction.getTranType(), transaction.getApprovedAmt());
+        Map.Entry<Key, Delta> row = deltas.rows.entrySet().iterator().next();
+
+        try {
+            merge(row.getKey(), row.getValue());
+        } catch (DuplicateKeyException e) {
+            log.debug("사용 집계 행 동시 생성, 재반영 - transactionId: {}", transaction.getTransactionId());
+            merge(row.getKey(), row.getValue());
+        }
+    }
+
+    private void merge(Key key, Delta delta) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(MERGE_ROLLUP_NEXTVAL_SQL,
+                key.getCardId(), Date.valueOf(key.getStatDate()), key.getCategory().name(), key.getTranType().name(),
+                delta.count, delta.amount, now, now, now);
+    }
+
+    /**
+     * 누적된 증분 일괄 반영 (호출 측 트랜잭션에 참여, ID 블록 할당 1회 + MERGE 배치 1회)
+     * 키 순으로 반영하여 동시 반영 간 잠금 순서를 맞춘다.
+     * 유일키 충돌 시 배치 일부가 이미 반영되었을 수 있으므로 트랜잭션 단위로 재시도해야 한다.
+     */
+    public void apply(Deltas deltas) {
+        List<Map.Entry<Key, Delta>> rows = new ArrayList<>(deltas.rows.entrySet());
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        long[] ids = sequenceIdAllocator.allocate(ROLLUP_SEQUENCE, rows.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(MERGE_ROLLUP_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Key key = rows.get(i).getKey();
+                Delta delta = rows.get(i).getValue();
+                ps.setLong(1, key.getCardId());
+                ps.setDate(2, Date.valueOf(key.getStatDate()));
+                ps.setString(3, key.getCategory().name());
+                ps.setString(4, key.getTranType().name());
+                ps.setLong(5, delta.count);
+                ps.setBigDecimal(6, delta.amount);
+                ps.setTimestamp(7, now);
+                ps.setLong(8, ids[i]);
+                ps.setTimestamp(9, now);
+                ps.setTimestamp(10, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    /**
+     * 집계 행별 증분 누적 (같은 키는 한 행으로 합산)
+     */
+    public static class Deltas {
+
+        private final Map<Key, Delta> rows = new TreeMap<>(Key.ORDER);
+
+        public void add(Long cardId, LocalDate statDate, CardTransaction.TransactionCategory category,
+                        CardTransaction.TransactionType tranType, BigDecimal amount) {
+            Key key = new Key(cardId, statDate,
+                    category != null ? category : CardTransaction.TransactionCategory.OTHERS,
+                    tranType != null ? tranType : CardTransaction.TransactionType.APPROVAL);
+            Delta delta = rows.computeIfAbsent(key, k -> new Delta());
+            delta.count++;
+            delta.amount = delta.amount.add(amount);
+        }
+
+        public boolean isEmpty() {
+            return rows.isEmpty();
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Key {
+
+        private static final Comparator<Key> ORDER = Comparator.comparing(Key::getCardId)
+                .thenComparing(Key::getStatDate)
+                .thenComparing(Key::getCategory)
+                .thenComparing(Key::getTranType);
+
+        private final Long cardId;
+
+        private final LocalDate statDate;
+
+        private final CardTransaction.TransactionCategory category;
+
+        private final CardTransaction.TransactionType tranType;
+    }
+
+    private static class Delta {
+
+        private long count;
+
+        private BigDecimal amount = BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,556 @@
+package com.kb_card.card.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kb_card.card.dto.BillTargetCard;
+import com.kb_card.card.dto.BulkCardView;
+import com.kb_card.card.dto.BulkIngestResult;
+import com.kb_card.card.dto.BulkIngestSummary;
+import com.kb_card.card.dto.BulkTransactionLine;
+import com.kb_card.card.entity.CardBill;
+import com.kb_card.card.entity.CardTransaction;
+import com.kb_card.card.repository.CardBillRepository;
+import com.kb_card.card.repository.CardRepository;
+import com.kb_card.common.id.SnowflakeIdGenerator;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 거래 대량 적재 (NDJSON / CSV 스트리밍)
+ * 입력을 줄 단위로 읽어 청크(card.bulk-ingest.chunk-size)마다 한 트랜잭션으로 처리한다.
+ * 청크당 카드 일괄 조회 1회, 거래/청구서 상세 JDBC 배치 insert, 청구서별 합계 증감 1회,
+ * 사용 집계 MERGE 배치 1회로 반영하며 메모리에는 현재 청크만 유지한다. 줄별 결과는 청크가 커밋될 때마다 전달된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CardTransactionBulkService {
+
+    private static final String TRANSACTION_SEQUENCE = "card_transactions_seq";
+    private static final String BILL_DETAIL_SEQUENCE = "card_bill_details_seq";
+
+    private static final String INSERT_TRANSACTION_SQL =
+            "INSERT INTO card_transactions (id, transaction_id, card_id, tran_date, tran_time, merchant_name, " +
+            "merchant_regno, approved_amt, tran_type, category, memo, created_at, modified_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_BILL_DETAIL_SQL =
+            "INSERT INTO card_bill_details (id, card_bill_id, card_id, paid_date, paid_time, paid_amt, " +
+            "merchant_name_masked, credit_fee_amt, product_type, created_at, modified_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final DateTimeFormatter CHARGE_MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final DateTimeFormatter PAID_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter PAID_TIME_FORMAT = DateTimeFormatter.ofPattern("HHmmss");
+
+    private static final String PRODUCT_TYPE_LUMP_SUM = "01"; // 일시불
+
+    private final CardRepository cardRepository;
+    private final CardBillRepository cardBillRepository;
+    private final CardBillBatchService cardBillBatchService;
+    private final CardSpendingRollupService cardSpendingRollupService;
+    private final CardVelocityGuard cardVelocityGuard;
+    private final SequenceIdAllocator sequenceIdAllocator;
+    private final SnowflakeIdGenerator idGenerator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${card.bulk-ingest.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${card.bulk-ingest.conflict-retries:3}")
+    private int conflictRetries;
+
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+
+    /**
+     * 입력을 끝까지 읽어 적재
+     *
+     * @param sink 청크 단위 줄별 결과 (줄 번호 순)
+     */
+    public BulkIngestSummary ingest(BufferedReader reader, Format format, Consumer<List<BulkIngestResult>> sink)
+            throws IOException {
+        long total = 0;
+        long succeeded = 0;
+        long lineNo = 0;
+        boolean firstDataLine = true;
+
+        List<PendingLine> chunk = new ArrayList<>(chunkSize);
+        List<BulkIngestResult> rejected = new ArrayList<>();
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == Format.CSV && firstDataLine && isCsvHeader(line)) {
+                firstDataLine = false;
+                continue;
+            }
+            firstDataLine = false;
+            total++;
+
+            BulkTransactionLine request = null;
+            try {
+                request = format == Format.CSV ? parseCsv(line) : parseJson(line);
+                validate(request);
+                chunk.add(new PendingLine(lineNo, request));
+            } catch (IllegalArgumentException e) {
+                rejected.add(BulkIngestResult.error(lineNo, request != null ? request.getCardNo() : null, e.getMessage()));
+            }
+
+            // 거절된 줄도 결과로 보관되므로 함께 세어 메모리를 청크 크기로 제한한다
+            if (chunk.size() + rejected.size() >= chunkSize) {
+                succeeded += flush(chunk, rejected, sink);
+            }
+        }
+        succeeded += flush(chunk, rejected, sink);
+
+        log.info("거래 대량 적재 완료 - format: {}, 처리: {}, 성공: {}, 실패: {}",
+                format, total, succeeded, total - succeeded);
+        return new BulkIngestSummary(total, succeeded, total - succeeded);
+    }
+
+    /**
+     * 청크 적재 후 결과 전달
+     *
+     * @return 성공 건수
+     */
+    private long flush(List<PendingLine> chunk, List<BulkIngestResult> rejected, Consumer<List<BulkIngestResult>> sink) {
+        if (chunk.isEmpty() && rejected.isEmpty()) {
+            return 0;
+        }
+
+        List<BulkIngestResult> results = new ArrayList<>(chunk.size() + rejected.size());
+        results.addAll(rejected);
+        if (!chunk.isEmpty()) {
+            results.addAll(ingestChunkWithRetry(chunk));
+        }
+        results.sort(Comparator.comparingLong(BulkIngestResult::getLine));
+
+        chunk.clear();
+        rejected.clear();
+        sink.accept(results);
+        return results.stream().filter(BulkIngestResult::isOk).count();
+    }
+
+    /**
+     * 청구서 동시 반영 충돌 시 청크 전체를 새 트랜잭션으로 재시도
+     */
+    private List<BulkIngestResult> ingestChunkWithRetry(List<PendingLine> chunk) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> ingestChunk(chunk));
+            } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+                if (attempt >= conflictRetries) {
+                    log.warn("거래 대량 적재 청크 실패 (충돌) - 첫 줄: {}, error: {}", chunk.get(0).getLineNo(), e.getMessage());
+                    return failAll(chunk, "청구서 반영 충돌로 적재하지 못했습니다.");
+                }
+                log.debug("거래 대량 적재 청크 충돌, 재시도 - 첫 줄: {}, attempt: {}", chunk.get(0).getLineNo(), attempt);
+            } catch (Exception e) {
+                log.error("거래 대량 적재 청크 실패 - 첫 줄: {}, error: {}", chunk.get(0).getLineNo(), e.getMessage(), e);
+                return failAll(chunk, "거래 적재 실패");
+            }
+        }
+    }
+
+    private List<BulkIngestResult> ingestChunk(List<PendingLine> chunk) {
+        Set<String> cardNos = chunk.stream()
+                .map(pending -> pending.getRequest().getCardNo())
+                .collect(Collectors.toSet());
+        Map<String, BulkCardView> cards = new HashMap<>(cardNos.size() * 2);
+        for (BulkCardView card : cardRepository.findBulkCardViewsByCardNos(cardNos)) {
+            cards.put(card.getCardNo(), card);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<BulkIngestResult> results = new ArrayList<>(chunk.size());
+        List<AcceptedLine> accepted = new ArrayList<>(chunk.size());
+
+        for (PendingLine pending : chunk) {
+            BulkTransactionLine request = pending.getRequest();
+            BulkCardView card = cards.get(request.getCardNo());
+            if (card == null) {
+                results.add(BulkIngestResult.error(pending.getLineNo(), request.getCardNo(), "카드를 찾을 수 없습니다."));
+            } else if (!card.isValidCard()) {
+                results.add(BulkIngestResult.error(pending.getLineNo(), request.getCardNo(),
+                        "유효하지 않은 카드입니다. (" + card.getCardStatus() + ")"));
+            } else {
+                accepted.add(new AcceptedLine(
+                        pending.getLineNo(),
+                        request,
+                        card,
+                        idGenerator.nextId("TXN"),
+                        request.getTranDate() != null ? request.getTranDate() : now.toLocalDate(),
+                        request.getTranTime() != null ? request.getTranTime() : now.toLocalTime()));
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            insertTransactions(accepted, now);
+            postToBills(accepted, now);
+            applyRollups(accepted);
+            for (AcceptedLine line : accepted) {
+                // 대량 적재는 한도 검사 없이 속도 집계에만 반영 (커밋 이후)
+                cardVelocityGuard.recordAfterCommit(line.getCard().getCardNo(),
+                        CardTransaction.TransactionCategory.fromMerchantName(line.getRequest().getMerchantName()),
+                        line.getRequest().getAmount(), LocalDateTime.of(line.getTranDate(), line.getTranTime()));
+                results.add(BulkIngestResult.ok(line.getLineNo(), line.getRequest().getCardNo(), line.getTransactionId()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 거래 JDBC 배치 insert
+     */
+    private void insertTransactions(List<AcceptedLine> lines, LocalDateTime now) {
+        long[] ids = sequenceIdAllocator.allocate(TRANSACTION_SEQUENCE, lines.size());
+        Timestamp timestamp = Timestamp.valueOf(now);
+
+        jdbcTemplate.batchUpdate(INSERT_TRANSACTION_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                AcceptedLine line = lines.get(i);
+                BulkTransactionLine request = line.getRequest();
+                ps.setLong(1, ids[i]);
+                ps.setString(2, line.getTransactionId());
+                ps.setLong(3, line.getCard().getCardId());
+                ps.setDate(4, Date.valueOf(line.getTranDate()));
+                ps.setTime(5, Time.valueOf(line.getTranTime()));
+                ps.setString(6, request.getMerchantName());
+                ps.setString(7, request.getMerchantRegno());
+                ps.setBigDecimal(8, request.getAmount());
+                ps.setString(9, CardTransaction.TransactionType.APPROVAL.name());
+                ps.setString(10, CardTransaction.TransactionCategory.fromMerchantName(request.getMerchantName()).name());
+                ps.setString(11, request.getMemo());
+                ps.setTimestamp(12, timestamp);
+                ps.setTimestamp(13, timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return lines.size();
+            }
+        });
+    }
+
+    /**
+     * 거래일 기준 청구월의 활성 청구서에 상세 내역 배치 insert + 청구서별 합계 1회 증감
+     * 청구월별로 활성 청구서를 일괄 조회하고, 청구서가 없는 카드는 먼저 일괄 생성한다.
+     * 이미 확정된 청구월의 거래는 이번 달 청구서로 이월한다 (CardBillService 와 같은 규칙).
+     */
+    private void postToBills(List<AcceptedLine> lines, LocalDateTime now) {
+        String currentMonth = now.toLocalDate().format(CHARGE_MONTH_FORMAT);
+
+        Map<String, List<AcceptedLine>> linesByMonth = new TreeMap<>();
+        for (AcceptedLine line : lines) {
+            linesByMonth.computeIfAbsent(line.getTranDate().format(CHARGE_MONTH_FORMAT), month -> new ArrayList<>())
+                    .add(line);
+        }
+
+        List<AcceptedLine> currentMonthLines = new ArrayList<>(linesByMonth.getOrDefault(currentMonth, List.of()));
+        linesByMonth.forEach((chargeMonth, monthLines) -> {
+            if (!chargeMonth.equals(currentMonth)) {
+                currentMonthLines.addAll(assignBills(monthLines, chargeMonth, false));
+            }
+        });
+        if (!currentMonthLines.isEmpty()) {
+            assignBills(currentMonthLines, currentMonth, true);
+        }
+
+        insertBillDetails(lines, now);
+
+        // 청구서 ID 순으로 갱신하여 동시 적재 간 잠금 순서를 맞춘다
+        Map<Long, BigDecimal> deltas = new TreeMap<>();
+        for (AcceptedLine line : lines) {
+            deltas.merge(line.getBillId(), line.getRequest().getAmount(), BigDecimal::add);
+        }
+        deltas.forEach((billId, delta) -> {
+            if (cardBillRepository.addChargeAmt(billId, delta) == 0) {
+                // 조회 이후 청구서가 확정된 경우 - 재시도 시 새 활성 청구서에 반영
+                throw new ObjectOptimisticLockingFailureException(CardBill.class, billId);
+            }
+        });
+    }
+
+    /**
+     * 한 청구월의 줄들에 활성 청구서 ID 지정 (없으면 일괄 생성)
+     *
+     * @param currentMonth 이번 달이면 확정 여부와 관계없이 청구서를 지정한다
+     * @return 청구월이 이미 확정되어 청구서를 지정하지 못한 줄 (이번 달로 이월 대상)
+     */
+    private List<AcceptedLine> assignBills(List<AcceptedLine> lines, String chargeMonth, boolean currentMonth) {
+        Map<Long, BulkCardView> cardsById = new LinkedHashMap<>();
+        for (AcceptedLine line : lines) {
+            cardsById.putIfAbsent(line.getCard().getCardId(), line.getCard());
+        }
+
+        Map<Long, Long> billIdByCardId = findActiveBillIds(cardsById.keySet(), chargeMonth);
+        List<Long> missingCardIds = cardsById.keySet().stream()
+                .filter(cardId -> !billIdByCardId.containsKey(cardId))
+                .toList();
+        if (!missingCardIds.isEmpty()) {
+            Set<Long> closedCardIds = currentMonth ? Set.of()
+                    : new HashSet<>(cardBillRepository.findCardIdsWithBill(missingCardIds, chargeMonth));
+            List<BillTargetCard> missing = missingCardIds.stream()
+                    .filter(cardId -> !closedCardIds.contains(cardId))
+                    .map(cardsById::get)
+                    .map(card -> new BillTargetCard(card.getCardId(), card.getCardType()))
+                    .toList();
+            if (!missing.isEmpty()) {
+                cardBillBatchService.insertActiveBills(missing, chargeMonth);
+                billIdByCardId.putAll(findActiveBillIds(
+                        missing.stream().map(BillTargetCard::getCardId).toList(), chargeMonth));
+            }
+        }
+
+        List<AcceptedLine> carried = new ArrayList<>();
+        for (AcceptedLine line : lines) {
+            Long billId = billIdByCardId.get(line.getCard().getCardId());
+            if (billId != null) {
+                line.setBillId(billId);
+            } else {
+                carried.add(line);
+            }
+        }
+        if (!carried.isEmpty()) {
+            log.warn("확정된 청구월 거래 이월 - chargeMonth: {}, 건수: {}", chargeMonth, carried.size());
+        }
+        return carried;
+    }
+
+    /**
+     * 청크 거래를 (카드, 일자, 카테고리) 단위로 합산해 사용 집계에 한 번에 반영
+     */
+    private void applyRollups(List<AcceptedLine> lines) {
+        CardSpendingRollupService.Deltas deltas = new CardSpendingRollupService.Deltas();
+        for (AcceptedLine line : lines) {
+            deltas.add(line.getCard().getCardId(), line.getTranDate(),
+                    CardTransaction.TransactionCategory.fromMerchantName(line.getRequest().getMerchantName()),
+                    CardTransaction.TransactionType.APPROVAL, line.getRequest().getAmount());
+        }
+        cardSpendingRollupService.apply(deltas);
+    }
+
+    private Map<Long, Long> findActiveBillIds(Collection<Long> cardIds, String chargeMonth) {
+        Map<Long, Long> billIdByCardId = new HashMap<>(cardIds.size() * 2);
+        for (Object[] row : cardBillRepository.findActiveBillIdsByCardIds(cardIds, chargeMonth)) {
+            billIdByCardId.put((Long) row[0], (Long) row[1]);
+        }
+        return billIdByCardId;
+    }
+
+    /**
+     * 청구서 상세 내역 JDBC 배치 insert
+     */
+    private void insertBillDetails(List<AcceptedLine> lines, LocalDateTime now) {
+        long[] ids = sequenceIdAllocator.allocate(BILL_DETAIL_SEQUENCE, lines.size());
+        Timestamp timestamp = Timestamp.valueOf(now);
+
+        jdbcTemplate.batchUpdate(INSERT_BILL_DETAIL_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                AcceptedLine line = lines.get(i);
+                Long cardId = line.getCard().getCardId();
+                ps.setLong(1, ids[i]);
+                ps.setLong(2, line.getBillId());
+                ps.setString(3, String.valueOf(cardId));
+                ps.setString(4, line.getTranDate().format(PAID_DATE_FORMAT));
+                ps.setString(5, line.getTranTime().format(PAID_TIME_FORMAT));
+                ps.setBigDecimal(6, line.getRequest().getAmount());
+                ps.setString(7, CardBillService.maskMerchantName(line.getRequest().getMerchantName()));
+                ps.setBigDecimal(8, BigDecimal.ZERO);
+                ps.setString(9, PRODUCT_TYPE_LUMP_SUM);
+                ps.setTimestamp(10, timestamp);
+                ps.setTimestamp(11, timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return lines.size();
+            }
+        });
+    }
+
+    private List<BulkIngestResult> failAll(List<PendingLine> chunk, String message) {
+        return chunk.stream()
+                .map(pending -> BulkIngestResult.error(pending.getLineNo(), pending.getRequest().getCardNo(), message))
+                .toList();
+    }
+
+    // ========== 입력 파싱 ==========
+
+    private BulkTransactionLine parseJson(String line) {
+        try {
+            return objectMapper.readValue(line, BulkTransactionLine.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("입력 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * CSV 한 줄 파싱 (cardNo,amount,merchantName,merchantRegno,tranDate,tranTime,memo)
+     */
+    static BulkTransactionLine parseCsv(String line) {
+        List<String> columns = splitCsv(line);
+        try {
+            BulkTransactionLine request = new BulkTransactionLine();
+            request.setCardNo(column(columns, 0));
+            String amount = column(columns, 1);
+            request.setAmount(amount != null ? new BigDecimal(amount) : null);
+            request.setMerchantName(column(columns, 2));
+            request.setMerchantRegno(column(columns, 3));
+            String tranDate = column(columns, 4);
+            request.setTranDate(tranDate != null ? LocalDate.parse(tranDate) : null);
+            String tranTime = column(columns, 5);
+            request.setTranTime(tranTime != null ? LocalTime.parse(tranTime) : null);
+            request.setMemo(column(columns, 6));
+            return request;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("입력 형식이 올바르지 않습니다: " + e.getMessage());
+        }
+    }
+
+    private static boolean isCsvHeader(String line) {
+        String first = column(splitCsv(line), 0);
+        return "cardNo".equalsIgnoreCase(first) || "card_no".equalsIgnoreCase(first);
+    }
+
+    private static String column(List<String> columns, int index) {
+        if (index >= columns.size()) {
+            return null;
+        }
+        String value = columns.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 쉼표 구분 + 큰따옴표 인용("" 는 따옴표 문자) 지원
+     */
+    static List<String> splitCsv(String line) {
+        List<String> columns = new ArrayList<>(8);
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                columns.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        columns.add(current.toString());
+        return columns;
+    }
+
+    /**
+     * 단건 거래 생성 API 와 같은 기준으로 검증 (컬럼 길이 포함)
+     */
+    private static void validate(BulkTransactionLine request) {
+        if (request.getCardNo() == null || request.getCardNo().isBlank()) {
+            throw new IllegalArgumentException("카드번호가 필요합니다.");
+        }
+        if (request.getAmount() == null || request.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("유효한 금액이 필요합니다.");
+        }
+        if (request.getMerchantName() == null || request.getMerchantName().isBlank()) {
+            throw new IllegalArgumentException("가맹점명이 필요합니다.");
+        }
+        if (request.getMerchantName().length() > 100) {
+            throw new IllegalArgumentException("가맹점명은 100자 이하여야 합니다.");
+        }
+        if (request.getMerchantRegno() != null && request.getMerchantRegno().length() > 20) {
+            throw new IllegalArgumentException("가맹점 사업자번호는 20자 이하여야 합니다.");
+        }
+        if (request.getMemo() != null && request.getMemo().length() > 200) {
+            throw new IllegalArgumentException("메모는 200자 이하여야 합니다.");
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class PendingLine {
+
+        private final long lineNo;
+
+        private final BulkTransactionLine request;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class AcceptedLine {
+
+        private final long lineNo;
+
+        private final BulkTransactionLine request;
+
+        private final BulkCardView card;
+
+        private final String transactionId;
+
+        private final LocalDate tranDate;
+
+        private final LocalTime tranTime;
+
+        /**
+         * 반영할 청구서 ID (postToBills 에서 지정)
+         */
+        @Setter
+        private Long billId;
+    }
+}
@@ -0,0 +1,168 @@
+package com.kb_card.card.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kb_card.card.dto.TransactionExportRow;
+import com.kb_card.card.entity.Card;
+import com.kb_card.card.repository.CardRepository;
+import com.kb_card.common.exception.BusinessException;
+import com.kb_card.common.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+/**
+ * 관리자 거래 내역 내보내기 (JDBC 커서 스트리밍)
+ * 엔티티 목록을 만들지 않고 순방향 읽기 전용 커서에서 card.transaction-export.fetch-size 건씩 받아
+ * 한 줄씩 바로 출력하므로, 거래 건수와 관계없이 메모리 사용량이 일정하다.
+ * 정렬은 (card_id, tran_date, tran_time, id) 인덱스 순서를 그대로 사용한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CardTransactionExportService {
+
+    private static final String EXPORT_SQL =
+            "SELECT transaction_id, tran_date, tran_time, merchant_name, merchant_regno, approved_amt, " +
+            "tran_type, category, memo FROM card_transactions WHERE card_id = ? ";
+
+    private static final String DATE_RANGE_CONDITION = "AND tran_date BETWEEN ? AND ? ";
+
+    private static final String ORDER_BY = "ORDER BY tran_date, tran_time, id";
+
+    private static final String CSV_HEADER =
+            "transactionId,tranDate,tranTime,merchantName,merchantRegno,approvedAmt,tranType,category,memo";
+
+    private final CardRepository cardRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${card.transaction-export.fetch-size:500}")
+    private int fetchSize;
+
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+
+    /**
+     * 카드번호로 카드 ID 조회 (응답을 쓰기 전에 호출해 없는 카드는 오류 응답으로 처리)
+     */
+    public Long findCardId(String cardNo) {
+        return cardRepository.findByCardNo(cardNo)
+                .map(Card::getId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND));
+    }
+
+    /**
+     * 카드 거래 내역을 writer 로 스트리밍 (fromDate, toDate 가 모두 있으면 해당 기간만)
+     *
+     * @return 내보낸 건수
+     */
+    public long export(Long cardId, LocalDate fromDate, LocalDate toDate, Format format, Writer writer)
+            throws IOException {
+        boolean dateRange = fromDate != null && toDate != null;
+        String sql = EXPORT_SQL + (dateRange ? DATE_RANGE_CONDITION : "") + ORDER_BY;
+        long startTime = System.currentTimeMillis();
+
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long[] count = {0};
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(sql,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                ps.setLong(1, cardId);
+                if (dateRange) {
+                    ps.setDate(2, Date.valueOf(fromDate));
+                    ps.setDate(3, Date.valueOf(toDate));
+                }
+                return ps;
+            }, rs -> {
+                try {
+                    writeRow(writer, toRow(rs), format);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등으로 쓰기 실패 (커서는 JdbcTemplate 이 닫는다)
+            log.warn("거래 내역 내보내기 중단 - cardId: {}, 출력 건수: {}, error: {}", cardId, count[0], e.getMessage());
+            throw e.getCause();
+        }
+
+        writer.flush();
+
+        log.info("거래 내역 내보내기 완료 - cardId: {}, format: {}, 건수: {}, 소요시간: {}ms",
+                cardId, format, count[0], System.currentTimeMillis() - startTime);
+        return count[0];
+    }
+
+    private static TransactionExportRow toRow(ResultSet rs) throws SQLException {
+        return new TransactionExportRow(
+                rs.getString("transaction_id"),
+                rs.getDate("tran_date").toLocalDate(),
+                rs.getTime("tran_time").toLocalTime(),
+                rs.getString("merchant_name"),
+                rs.getString("merchant_regno"),
+                rs.getBigDecimal("approved_amt"),
+                rs.getString("tran_type"),
+                rs.getString("category"),
+                rs.getString("memo"));
+    }
+
+    private void writeRow(Writer writer, TransactionExportRow row, Format format) throws IOException {
+        if (format == Format.CSV) {
+            writer.write(csv(row.getTransactionId()));
+            writer.write(',');
+            writer.write(row.getTranDate().toString());
+            writer.write(',');
+            writer.write(row.getTranTime().toString());
+            writer.write(',');
+            writer.write(csv(row.getMerchantName()));
+            writer.write(',');
+            writer.write(csv(row.getMerchantRegno()));
+            writer.write(',');
+            writer.write(row.getApprovedAmt().toPlainString());
+            writer.write(',');
+            writer.write(csv(row.getTranType()));
+            writer.write(',');
+            writer.write(csv(row.getCategory()));
+            writer.write(',');
+            writer.write(csv(row.getMemo()));
+            writer.write('\n');
+            return;
+        }
+
+        writer.write(objectMapper.writeValueAsString(row));
+        writer.write('\n');
+    }
+
+    /**
+     * CSV 필드 (쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 쓴다)
+     */
+    static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,21 +1,22 @@
 package com.kb_card.card.service;
 
 import com.kb_card.card.entity.Card;
+import com.kb_card.card.entity.CardBillOutbox;
 import com.kb_card.card.entity.CardTransaction;
+import com.kb_card.card.repository.CardBillOutboxRepository;
 import com.kb_card.card.repository.CardRepository;
 import com.kb_card.card.repository.CardTransactionRepository;
 import com.kb_card.common.exception.BusinessException;
 import com.kb_card.common.exception.ErrorCode;
+import com.kb_card.common.id.SnowflakeIdGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.UUID;
 
 @Slf4j
 @Service
@@ -24,24 +25,52 @@ public class CardTransactionService {
     
     private final CardTransactionRepository cardTransactionRepository;
     private final CardRepository cardRepository;
-    private final CardBillService cardBillService;
-    private final CardBillTransactionService cardBillTransactionService;
+    private final CardBillOutboxRepository cardBillOutboxRepository;
+    private final CardExistenceFilter cardExistenceFilter;
+    private final CardSpendingRollupService cardSpendingRollupService;
+    private final CardVelocityGuard cardVelocityGuard;
+    private final SnowflakeIdGenerator idGenerator;
     
     /**
-     * 새로운 거래 생성 및 청구서 반영 (cardNo 기반)
+     * 새로운 거래 생성 및 청구서 반영 대기열 등록 (cardNo 기반)
      */
     @Transactional
     public CardTransaction createTransaction(CreateTransactionRequest request) {
+        return createTransaction(request, generateTransactionId());
+    }
+    
+    /**
+     * 미리 발급한 거래 ID로 거래 생성 (승인 저널 재처리 등 ID 기준 중복 제거가 필요한 경우)
+     */
+    @Transactional
+    public CardTransaction createTransaction(CreateTransactionRequest request, String transactionId) {
+        return createTransaction(request, transactionId, false);
+    }
+    
+    /**
+     * 미리 발급한 거래 ID로 거래 생성
+     *
+     * @param journaled true 이면 속도 한도 검사/집계 생략 (저널 기록 시 이미 검사·집계한 재처리 건)
+     */
+    @Transactional
+    public CardTransaction createTransaction(CreateTransactionRequest request, String transactionId,
+                                             boolean journaled) {
         log.info("거래 생성 시작 - cardNo: {}, amount: {}, merchantName: {}", 
                 request.getCardNo(), request.getAmount(), request.getMerchantName());
         
         try {
             // 1. 카드 조회 (cardNo 기반)
+            // 승인 경로는 필터에서 미보유로 판정되어도 DB 를 확인한다 (증분 반영 전 발급된 카드)
+            boolean filterMiss = !cardExistenceFilter.mightContainCardNo(request.getCardNo());
             Card card = cardRepository.findByCardNo(request.getCardNo())
                     .orElseThrow(() -> {
                         log.error("카드를 찾을 수 없음 - cardNo: {}", request.getCardNo());
                         return new BusinessException(ErrorCode.ENTITY_NOT_FOUND);
                     });
+            if (filterMiss) {
+                log.warn("존재 여부 필터 미반영 카드 - cardNo: {}", request.getCardNo());
+                cardExistenceFilter.recoverCardNo(request.getCardNo());
+            }
             
             // 2. 카드 유효성 검증
             if (!card.isValidCard()) {
@@ -49,9 +78,16 @@ public class CardTransactionService {
                 throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
             }
             
-            // 3. 거래 ID 생성
-            String transactionId = generateTransactionId();
-            
+            CardTransaction.TransactionType tranType = request.getTranType() != null
+                    ? request.getTranType() : CardTransaction.TransactionType.APPROVAL;
+            CardTransaction.TransactionCategory category = request.getCategory() != null
+                    ? request.getCategory() : CardTransaction.TransactionCategory.OTHERS;
+
+            // 3. 거래 속도(1분/1시간/24시간 건수·금액) 한도 검증 (메모리 집계, DB 조회 없음)
+            if (!journaled) {
+                cardVelocityGuard.check(card.getCardNo(), tranType, category, request.getAmount());
+            }
+
             // 4. 거래 엔티티 생성
             CardTransaction transaction = CardTransaction.builder()
                     .transactionId(transactionId)
@@ -61,8 +97,8 @@ public class CardTransactionService {
                     .merchantName(request.getMerchantName())
                     .merchantRegno(request.getMerchantRegno())
                     .approvedAmt(request.getAmount())
-                    .tranType(request.getTranType() != null ? request.getTranType() : CardTransaction.TransactionType.APPROVAL)
-                    .category(request.getCategory() != null ? request.getCategory() : CardTransaction.TransactionCategory.OTHERS)
+                    .tranType(tranType)
+                    .category(category)
                     .memo(request.getMemo())
                     .build();
 
@@ -71,8 +107,16 @@ public class CardTransactionService {
             log.info("거래 저장 완료 - transactionId: {}, cardNo: {}",
                     savedTransaction.getTransactionId(), request.getCardNo());
 
-            // 6. 청구서에 거래 반영 (별도 서비스 호출로 트랜잭션 분리)
-            cardBillTransactionService.addTransactionToBillSafely(savedTransaction);
+            // 6. 청구서 반영 대기열 등록 (거래와 같은 트랜잭션, 반영은 CardBillOutboxProcessor가 비동기 처리)
+            cardBillOutboxRepository.save(CardBillOutbox.of(savedTransaction));
+
+            // 7. 카드별 일자 사용 집계 반영 (거래와 같은 트랜잭션)
+            cardSpendingRollupService.record(savedTransaction);
+
+            // 8. 거래 속도 집계 반영 (커밋 이후)
+            if (!journaled) {
+                cardVelocityGuard.recordAfterCommit(savedTransaction);
+            }
 
             log.info("거래 생성 완료 - transactionId: {}, cardNo: {}",
                     savedTransaction.getTransactionId(), request.getCardNo());
@@ -84,30 +128,16 @@ public class CardTransactionService {
             throw e; // BusinessException은 그대로 재던지기
         } catch (Exception e) {
             log.error("거래 생성 실패 (시스템 오류) - cardNo: {}, error: {}", request.getCardNo(), e.getMessage(), e);
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-        }
-    }
-    
-    /**
-     * 청구서 반영을 안전하게 처리 (rollback 에러 방지)
-     */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void addTransactionToBillSafely(CardTransaction transaction) {
-        try {
-            cardBillService.addTransactionToBill(transaction);
-            log.info("청구서 반영 성공 - transactionId: {}", transaction.getTransactionId());
-        } catch (Exception e) {
-            log.error("청구서 반영 실패 - transactionId: {}, error: {}", 
-                    transaction.getTransactionId(), e.getMessage(), e);
-            // 청구서 반영 실패해도 거래 저장은 성공으로 처리 (별도 트랜잭션이므로 롤백되지 않음)
+            // 원인을 남겨 승인 저널 전환 여부(일시 장애/확정 오류)를 판단할 수 있게 한다
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, e);
         }
     }
     
     /**
-     * 거래 ID 생성
+     * 거래 ID 생성 (TXN + 시간순 ID 13자리)
      */
-    private String generateTransactionId() {
-        return "TXN" + System.currentTimeMillis() + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    public String generateTransactionId() {
+        return idGenerator.nextId("TXN");
     }
     
     /**
@@ -0,0 +1,112 @@
+package com.kb_card.card.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kb_card.card.dto.CardUserSnapshot;
+import com.kb_card.card.repository.CardUserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 사용자 CI → (사용자 ID, 상태) 캐시
+ * KFTC 조회 요청마다 반복되던 사용자 조회를 줄이기 위한 인메모리 캐시.
+ * 존재하지 않는 CI는 짧은 TTL의 별도 캐시(negative cache)에 보관한다.
+ * 상태 변경(탈퇴/조회해지) 시에는 커밋 이후 invalidate 해야 한다.
+ */
+@Slf4j
+@Component
+public class CardUserCache {
+
+    private final CardUserRepository cardUserRepository;
+    private final CardExistenceFilter cardExistenceFilter;
+    private final Cache<String, CardUserSnapshot> users;
+    private final Cache<String, Boolean> missingUsers;
+
+    public CardUserCache(CardUserRepository cardUserRepository,
+                         CardExistenceFilter cardExistenceFilter,
+                         @Value("${card.user-cache.max-size:10000}") long maxSize,
+                         @Value("${card.user-cache.ttl-seconds:300}") long ttlSeconds,
+                         @Value("${card.user-cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+        this.cardUserRepository = cardUserRepository;
+        this.cardExistenceFilter = cardExistenceFilter;
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.missingUsers = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(negativeTtlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 사용자 CI로 사용자 조회 (캐시 미스 시 DB 조회)
+     */
+    public Optional<CardUserSnapshot> findByUserCi(String userCi) {
+        if (userCi == null) {
+            return Optional.empty();
+        }
+
+        CardUserSnapshot cached = users.getIfPresent(userCi);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        // 존재 여부 필터에서 확실히 없다고 판정되면 DB를 조회하지 않음
+        if (!cardExistenceFilter.mightContainUserCi(userCi)) {
+            return Optional.empty();
+        }
+        if (missingUsers.getIfPresent(userCi) != null) {
+            return Optional.empty();
+        }
+
+        Optional<CardUserSnapshot> loaded = cardUserRepository.findSnapshotByUserCi(userCi);
+        if (loaded.isPresent()) {
+            users.put(userCi, loaded.get());
+        } else {
+            missingUsers.put(userCi, Boolean.TRUE);
+        }
+        return loaded;
+    }
+
+    /**
+     * 사용자 캐시 무효화
+     * 트랜잭션 안에서 호출되면 커밋 이후에 제거하여, 커밋 전 다른 요청이 이전 상태를 다시 적재하는 것을 막는다.
+     */
+    public void invalidate(String userCi) {
+        if (userCi == null) {
+            return;
+        }
+
+        evict(userCi);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userCi);
+                }
+            });
+        }
+    }
+
+    /**
+     * 전체 캐시 비우기 (운영용)
+     */
+    public void invalidateAll() {
+        users.invalidateAll();
+        missingUsers.invalidateAll();
+    }
+
+    private void evict(String userCi) {
+        users.invalidate(userCi);
+        missingUsers.invalidate(userCi);
+        log.debug("사용자 캐시 무효화 - userCi: {}", userCi);
+    }
+}
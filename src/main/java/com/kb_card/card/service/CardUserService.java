@@ -3,10 +3,14 @@ package com.kb_card.card.service;
 import com.kb_card.card.dto.*;
 import com.kb_card.card.entity.*;
 import com.kb_card.card.repository.*;
+import com.kb_card.common.concurrent.SingleFlight;
 import com.kb_card.common.exception.BusinessException;
 import com.kb_card.common.exception.ErrorCode;
+import com.kb_card.common.id.SnowflakeIdGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,9 +19,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
-import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Slf4j
 @Service
@@ -25,14 +29,18 @@ import java.util.UUID;
 public class CardUserService {
 
     private final CardUserRepository cardUserRepository;
+    private final CardUserCache cardUserCache;
     private final CardRepository cardRepository;
     private final CardApplicationRepository cardApplicationRepository;
     private final CardTransactionRepository cardTransactionRepository;
-    private final CardBillDetailRepository cardBillDetailRepository;
-    private final CardBillRepository cardBillRepository;
+    private final CardInquiryLoader cardInquiryLoader;
+    private final SnowflakeIdGenerator idGenerator;
+    private final SingleFlight singleFlight;
 
     private static final String BANK_NAME = "KB카드";
     private static final String BANK_CODE = "381"; // KB카드 표준코드
+    private static final int TRANSACTION_PAGE_SIZE = 20;
+    private static final int API_TRAN_ID_LENGTH = 20;
 
     // ========== 카드사 고유 서비스 ==========
 
@@ -49,6 +57,7 @@ public class CardUserService {
             CardUser user = optionalUser.get();
             user.withdraw();
             cardUserRepository.save(user);
+            cardUserCache.invalidate(userCi);
             log.info("사용자 탈퇴 처리 완료 - userId: {}, userCi: {}", user.getUserId(), userCi);
         } else {
             log.warn("탈퇴할 사용자를 찾을 수 없음 - userCi: {}", userCi);
@@ -139,10 +148,10 @@ public class CardUserService {
     }
 
     /**
-     * 신청 ID 생성
+     * 신청 ID 생성 (APP + 시간순 ID 13자리)
      */
     private String generateApplicationId() {
-        return "APP" + System.currentTimeMillis() + String.format("%03d", new Random().nextInt(1000));
+        return idGenerator.nextId("APP");
     }
 
     /**
@@ -150,8 +159,7 @@ public class CardUserService {
      */
     private String performBasicScreening(CardIssueRequest request) {
         // 실제로는 복합적인 심사 로직이 필요하지만, 샘플에서는 간소화
-        Random random = new Random();
-        int score = random.nextInt(100);
+        int score = ThreadLocalRandom.current().nextInt(100);
 
         if (score >= 70) {
             return "APPROVED"; // 승인
@@ -179,39 +187,32 @@ public class CardUserService {
     /**
      * 카드목록조회 (KFTC 요청 처리)
      */
-    @Transactional(readOnly = true)
     public CardListResponse getCardList(CardListRequest request) {
         log.info("카드목록조회 요청 처리 - userCi: {}", request.getUserCi());
 
         try {
             // 1. 사용자 조회
             log.debug("CardUser 조회 시작 - userCi: {}", request.getUserCi());
-            Optional<CardUser> optionalUser = cardUserRepository.findByUserCi(request.getUserCi());
+            Optional<CardUserSnapshot> optionalUser = cardUserCache.findByUserCi(request.getUserCi());
 
             if (optionalUser.isEmpty()) {
                 log.warn("카드목록조회 - 사용자를 찾을 수 없음: {}", request.getUserCi());
-                log.warn("DB에서 조회된 사용자 수: {}", cardUserRepository.count());
                 return createCardListErrorResponse(request, "555", "해당 사용자 없음");
             }
 
-            CardUser user = optionalUser.get();
-            log.info("CardUser 조회 성공 - userId: {}, userName: {}, userCi: {}",
-                    user.getUserId(), user.getUserName(), user.getUserCi());
+            CardUserSnapshot user = optionalUser.get();
+            log.info("CardUser 조회 성공 - userId: {}, userCi: {}", user.getUserId(), request.getUserCi());
 
             // 2. 해지된 사용자 확인
-            if (user.getStatus() == CardUser.UserStatus.WITHDRAWN) {
+            if (user.isWithdrawn()) {
                 log.warn("카드목록조회 - 해지된 사용자: {}", request.getUserCi());
                 return createCardListErrorResponse(request, "551", "기 해지 사용자");
             }
 
-            // 3. 사용자의 카드 목록 조회
-            List<Card> userCards = cardRepository.findByUserCi(request.getUserCi());
-            log.info("사용자 카드 조회 완료 - userCi: {}, 카드 수: {}", request.getUserCi(), userCards.size());
-
-            // 4. 카드 목록을 응답 형태로 변환
-            List<CardListResponse.CardInfo> cardInfoList = userCards.stream()
-                    .map(this::convertToCardInfo)
-                    .toList();
+            // 3. 사용자의 카드 목록 조회 (같은 사용자의 동시 조회는 한 번만 실행)
+            // 트랜잭션은 조회를 실제로 실행하는 요청만 열어, 대기 요청은 커넥션을 잡지 않는다
+            List<CardListResponse.CardInfo> cardInfoList = singleFlight.execute("cards", request.getUserCi(),
+                    () -> cardInquiryLoader.loadCardInfoList(request.getUserCi()));
 
             log.info("카드목록조회 완료 - userCi: {}, cardCnt: {}",
                     request.getUserCi(), cardInfoList.size());
@@ -240,22 +241,22 @@ public class CardUserService {
     }
 
     /**
-     * Card 엔티티를 CardInfo DTO로 변환
+     * 카드 projection 을 CardInfo DTO로 변환
      */
-    private CardListResponse.CardInfo convertToCardInfo(Card card) {
+    static CardListResponse.CardInfo convertToCardInfo(CardInfoView card, CardProduct product, String cardImageUrl) {
         return CardListResponse.CardInfo.builder()
-                .cardId(String.valueOf(card.getId())) // Long id를 String으로 변환
+                .cardId(String.valueOf(card.getCardId())) // Long id를 String으로 변환
                 .cardNumMasked(maskCardNumber(card.getCardNo())) // cardNo 필드 사용
-                .cardName(card.getCardName())
-                .cardImage(card.getCardProduct() != null ? card.getCardProduct().getCardImage() : null)
-                .cardMemberType("CREDIT".equals(card.getCardType()) ? "1" : "2") // String 타입으로 비교
+                .cardName(product != null ? product.getProductName() : "Unknown Card")
+                .cardImage(cardImageUrl) // 이미지 원본 대신 조회 URL (/v2.0/cards/images/{productCode}?v=...)
+                .cardMemberType(product != null && product.getCardType() == CardProduct.CardType.CREDIT ? "1" : "2")
                 .build();
     }
 
     /**
      * 카드번호 마스킹 처리
      */
-    private String maskCardNumber(String cardNumber) {
+    static String maskCardNumber(String cardNumber) {
         if (cardNumber == null || cardNumber.length() < 16) {
             return "****-****-****-****";
         }
@@ -307,6 +308,7 @@ public class CardUserService {
                 // 사용자 해지 처리
                 user.withdraw();
                 cardUserRepository.save(user);
+                cardUserCache.invalidate(request.getUserCi());
 
                 log.info("카드조회해지 완료 - userCi: {}", request.getUserCi());
                 return createCancelResponse(request, "000", "");
@@ -354,7 +356,7 @@ public class CardUserService {
 
         try {
             // 사용자 CI로 사용자 조회
-            Optional<CardUser> optionalUser = cardUserRepository.findByUserCi(request.getUserCi());
+            Optional<CardUserSnapshot> optionalUser = cardUserCache.findByUserCi(request.getUserCi());
             if (optionalUser.isEmpty()) {
                 log.warn("사용자를 찾을 수 없음 - userCi: {}", request.getUserCi());
                 return createIssueInfoErrorResponse(request, ErrorCode.ENTITY_NOT_FOUND);
@@ -392,23 +394,22 @@ public class CardUserService {
     /**
      * 카드청구기본정보조회 (KFTC 요청 처리)
      */
-    @Transactional(readOnly = true)
     public CardBillsResponse getCardBills(CardBillsRequest request) {
         log.info("카드청구기본정보조회 요청 처리 - fromMonth: {}, toMonth: {}, userCi: {}",
                 request.getFromMonth(), request.getToMonth(), request.getUserCi());
 
         try {
             // 사용자 CI로 사용자 조회
-            Optional<CardUser> optionalUser = cardUserRepository.findByUserCi(request.getUserCi());
+            Optional<CardUserSnapshot> optionalUser = cardUserCache.findByUserCi(request.getUserCi());
             if (optionalUser.isEmpty()) {
                 log.warn("사용자를 찾을 수 없음 - userCi: {}", request.getUserCi());
                 return createBillsErrorResponse(request, ErrorCode.ENTITY_NOT_FOUND);
             }
 
-            CardUser user = optionalUser.get();
+            CardUserSnapshot user = optionalUser.get();
 
             // 해지된 사용자 확인
-            if (user.getStatus() == CardUser.UserStatus.WITHDRAWN) {
+            if (user.isWithdrawn()) {
                 log.warn("해지된 사용자 - userCi: {}", request.getUserCi());
                 return createBillsErrorResponse(request, ErrorCode.ENTITY_NOT_FOUND);
             }
@@ -417,8 +418,10 @@ public class CardUserService {
             String currentDateTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS"));
             String bankTranDate = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
 
-            // 실제 청구서 목록 조회
-            List<CardBillsResponse.BillInfo> billList = getBillListFromDatabase(request);
+            // 실제 청구서 목록 조회 (같은 조건의 동시 조회는 한 번만 실행하고 결과를 공유)
+            List<CardBillsResponse.BillInfo> billList = singleFlight.execute("bills",
+                    request.getUserCi() + "|" + request.getFromMonth() + "|" + request.getToMonth(),
+                    () -> cardInquiryLoader.loadBillList(request));
 
             return CardBillsResponse.builder()
                     .apiTranId(apiTranId)
@@ -444,44 +447,14 @@ public class CardUserService {
     }
 
     /**
-     * 데이터베이스에서 실제 청구서 목록 조회
-     */
-    private List<CardBillsResponse.BillInfo> getBillListFromDatabase(CardBillsRequest request) {
-        log.info("실제 청구서 목록 조회 시작 - userCi: {}, fromMonth: {}, toMonth: {}",
-                request.getUserCi(), request.getFromMonth(), request.getToMonth());
-
-        try {
-            // 사용자 CI로 청구서 목록 조회
-            List<CardBill> cardBills = cardBillRepository.findByUserCiAndChargeMonthRange(
-                    request.getUserCi(),
-                    request.getFromMonth(),
-                    request.getToMonth()
-            );
-
-            log.info("조회된 청구서 개수: {}", cardBills.size());
-
-            // CardBill 엔티티를 BillInfo DTO로 변환
-            return cardBills.stream()
-                    .map(this::convertToBillInfo)
-                    .toList();
-
-        } catch (Exception e) {
-            log.error("청구서 목록 조회 실패 - userCi: {}, error: {}",
-                    request.getUserCi(), e.getMessage(), e);
-            return List.of(); // 빈 목록 반환
-        }
-    }
-
-    /**
-     * CardBill 엔티티를 BillInfo DTO로 변환
+     * 청구서 projection 을 BillInfo DTO로 변환
      */
-    private CardBillsResponse.BillInfo convertToBillInfo(CardBill cardBill) {
-        Card card = cardBill.getCard();
+    static CardBillsResponse.BillInfo convertToBillInfo(BillInfoView cardBill, Map<String, String> cardImages) {
         return CardBillsResponse.BillInfo.builder()
                 .chargeMonth(cardBill.getChargeMonth())
                 .settlementSeqNo(cardBill.getSettlementSeqNo())
-                .cardId(String.valueOf(cardBill.getCard().getId()))
-                .cardImage(card != null && card.getCardProduct() != null ? card.getCardProduct().getCardImage() : null)
+                .cardId(String.valueOf(cardBill.getCardId()))
+                .cardImage(cardBill.getProductCode() != null ? cardImages.get(cardBill.getProductCode()) : null)
                 .chargeAmt(cardBill.getChargeAmt().toString())
                 .settlementDay(cardBill.getSettlementDay())
                 .settlementDate(cardBill.getSettlementDate())
@@ -492,23 +465,22 @@ public class CardUserService {
     /**
      * 카드청구상세정보조회 (KFTC 요청 처리)
      */
-    @Transactional(readOnly = true)
     public CardBillDetailResponse getCardBillDetail(CardBillDetailRequest request) {
         log.info("카드청구상세정보조회 요청 처리 - chargeMonth: {}, settlementSeqNo: {}, userCi: {}",
                 request.getChargeMonth(), request.getSettlementSeqNo(), request.getUserCi());
 
         try {
             // 사용자 CI로 사용자 조회
-            Optional<CardUser> optionalUser = cardUserRepository.findByUserCi(request.getUserCi());
+            Optional<CardUserSnapshot> optionalUser = cardUserCache.findByUserCi(request.getUserCi());
             if (optionalUser.isEmpty()) {
                 log.warn("사용자를 찾을 수 없음 - userCi: {}", request.getUserCi());
                 return createBillDetailErrorResponse(request, ErrorCode.ENTITY_NOT_FOUND);
             }
 
-            CardUser user = optionalUser.get();
+            CardUserSnapshot user = optionalUser.get();
 
             // 해지된 사용자 확인
-            if (user.getStatus() == CardUser.UserStatus.WITHDRAWN) {
+            if (user.isWithdrawn()) {
                 log.warn("해지된 사용자 - userCi: {}", request.getUserCi());
                 return createBillDetailErrorResponse(request, ErrorCode.ENTITY_NOT_FOUND);
             }
@@ -517,8 +489,10 @@ public class CardUserService {
             String currentDateTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS"));
             String bankTranDate = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
 
-            // 실제 청구서 상세 목록 조회
-            List<CardBillDetailResponse.BillDetailInfo> billDetailList = getBillDetailListFromDatabase(request);
+            // 실제 청구서 상세 목록 조회 (같은 조건의 동시 조회는 한 번만 실행하고 결과를 공유)
+            List<CardBillDetailResponse.BillDetailInfo> billDetailList = singleFlight.execute("bill_detail",
+                    request.getUserCi() + "|" + request.getChargeMonth() + "|" + request.getSettlementSeqNo(),
+                    () -> cardInquiryLoader.loadBillDetailList(request));
 
             return CardBillDetailResponse.builder()
                     .apiTranId(apiTranId)
@@ -544,42 +518,13 @@ public class CardUserService {
     }
 
     /**
-     * 데이터베이스에서 실제 청구서 상세 목록 조회
-     */
-    private List<CardBillDetailResponse.BillDetailInfo> getBillDetailListFromDatabase(CardBillDetailRequest request) {
-        log.info("실제 청구서 상세 목록 조회 시작 - userCi: {}, chargeMonth: {}, settlementSeqNo: {}",
-                request.getUserCi(), request.getChargeMonth(), request.getSettlementSeqNo());
-
-        try {
-            // 사용자 CI, 청구년월, 결제순번으로 청구서 상세 내역 조회
-            List<CardBillDetail> billDetails = cardBillDetailRepository.findByUserCiAndChargeMonthAndSettlementSeqNo(
-                    request.getUserCi(),
-                    request.getChargeMonth(),
-                    request.getSettlementSeqNo()
-            );
-
-            log.info("조회된 청구서 상세 개수: {}", billDetails.size());
-
-            // CardBillDetail 엔티티를 BillDetailInfo DTO로 변환
-            return billDetails.stream()
-                    .map(this::convertToBillDetailInfo)
-                    .toList();
-
-        } catch (Exception e) {
-            log.error("청구서 상세 목록 조회 실패 - userCi: {}, chargeMonth: {}, settlementSeqNo: {}, error: {}",
-                    request.getUserCi(), request.getChargeMonth(), request.getSettlementSeqNo(), e.getMessage(), e);
-            return List.of(); // 빈 목록 반환
-        }
-    }
-
-    /**
-     * CardBillDetail 엔티티를 BillDetailInfo DTO로 변환
+     * 청구 상세 projection 을 BillDetailInfo DTO로 변환
      */
-    private CardBillDetailResponse.BillDetailInfo convertToBillDetailInfo(CardBillDetail billDetail) {
-        Card card = billDetail.getCardBill().getCard();
+    static CardBillDetailResponse.BillDetailInfo convertToBillDetailInfo(BillDetailInfoView billDetail,
+                                                                         Map<String, String> cardImages) {
         return CardBillDetailResponse.BillDetailInfo.builder()
                 .cardValue(billDetail.getCardId())
-                .cardImage(card != null && card.getCardProduct() != null ? card.getCardProduct().getCardImage() : null)
+                .cardImage(billDetail.getProductCode() != null ? cardImages.get(billDetail.getProductCode()) : null)
                 .paidDate(billDetail.getPaidDate())
                 .paidTime(billDetail.getPaidTime())
                 .paidAmt(billDetail.getPaidAmt().toString())
@@ -599,17 +544,17 @@ public class CardUserService {
 
         try {
             // 1. 사용자 조회
-            Optional<CardUser> optionalUser = cardUserRepository.findByUserCi(request.getUserCi());
+            Optional<CardUserSnapshot> optionalUser = cardUserCache.findByUserCi(request.getUserCi());
 
             if (optionalUser.isEmpty()) {
                 log.warn("카드거래내역조회 - 사용자를 찾을 수 없음: {}", request.getUserCi());
                 return createTransactionErrorResponse(request, "555", "해당 사용자 없음");
             }
 
-            CardUser user = optionalUser.get();
+            CardUserSnapshot user = optionalUser.get();
 
             // 2. 해지된 사용자 확인
-            if (user.getStatus() == CardUser.UserStatus.WITHDRAWN) {
+            if (user.isWithdrawn()) {
                 log.warn("카드거래내역조회 - 해지된 사용자: {}", request.getUserCi());
                 return createTransactionErrorResponse(request, "551", "기 해지 사용자");
             }
@@ -636,21 +581,42 @@ public class CardUserService {
             LocalDate fromDate = LocalDate.parse(request.getFromDate(), DateTimeFormatter.ofPattern("yyyyMMdd"));
             LocalDate toDate = LocalDate.parse(request.getToDate(), DateTimeFormatter.ofPattern("yyyyMMdd"));
 
-            List<CardTransaction> transactions = cardTransactionRepository.findByCardAndDateRange(
-                    card, fromDate, toDate);
+            // 6. 페이징 처리 (한 페이지에 20건씩, 직전조회추적정보 기반 keyset 페이징)
+            Slice<TransactionInfoView> transactions;
+            String traceInfo = request.getBeforInquiryTraceInfo();
+
+            if (traceInfo != null && !traceInfo.isBlank()) {
+                CardTransactionCursor cursor;
+                try {
+                    cursor = CardTransactionCursor.decode(traceInfo);
+                } catch (IllegalArgumentException e) {
+                    log.warn("카드거래내역조회 - 직전조회추적정보 오류: {}", traceInfo);
+                    return createTransactionErrorResponse(request, "999", "직전조회추적정보 오류");
+                }
 
-            // 6. 페이징 처리 (한 페이지에 20건씩)
-            int pageSize = 20;
-            int pageIndex = Integer.parseInt(request.getPageIndex());
-            int startIndex = (pageIndex - 1) * pageSize;
-            int endIndex = Math.min(startIndex + pageSize, transactions.size());
+                transactions = cardTransactionRepository.findSliceByCardAndDateRangeAfter(
+                        card, fromDate, toDate,
+                        cursor.getTranDate(), cursor.getTranTime(), cursor.getId(),
+                        PageRequest.of(0, TRANSACTION_PAGE_SIZE));
+            } else {
+                // 직전조회추적정보 없이 페이지 인덱스만 전달된 경우 (하위 호환)
+                int pageIndex = request.getPageIndex() != null ? Integer.parseInt(request.getPageIndex()) : 1;
+                transactions = cardTransactionRepository.findSliceByCardAndDateRange(
+                        card, fromDate, toDate,
+                        PageRequest.of(Math.max(pageIndex - 1, 0), TRANSACTION_PAGE_SIZE));
+            }
 
-            List<CardTransaction> pagedTransactions = transactions.subList(startIndex, endIndex);
-            boolean hasNextPage = endIndex < transactions.size();
+            List<TransactionInfoView> pagedTransactions = transactions.getContent();
+            boolean hasNextPage = transactions.hasNext();
+            String nextTraceInfo = "";
+            if (hasNextPage) {
+                TransactionInfoView last = pagedTransactions.get(pagedTransactions.size() - 1);
+                nextTraceInfo = new CardTransactionCursor(last.getTranDate(), last.getTranTime(), last.getId()).encode();
+            }
 
             // 7. 응답 데이터 변환
             List<CardTransactionResponse.TransactionInfo> transactionInfoList = pagedTransactions.stream()
-                    .map(this::convertToTransactionInfo)
+                    .map(CardUserService::convertToTransactionInfo)
                     .toList();
 
             log.info("카드거래내역조회 완료 - userCi: {}, cardId: {}, tranCnt: {}",
@@ -667,7 +633,7 @@ public class CardUserService {
                     .bankRspCode("000")
                     .bankRspMessage("")
                     .nextPageYn(hasNextPage ? "Y" : "N")
-                    .beforInquiryTraceInfo("")
+                    .beforInquiryTraceInfo(nextTraceInfo)
                     .tranCnt(String.valueOf(transactionInfoList.size()))
                     .tranList(transactionInfoList)
                     .build();
@@ -680,9 +646,9 @@ public class CardUserService {
     }
 
     /**
-     * CardTransaction 엔티티를 TransactionInfo DTO로 변환
+     * 거래 projection 을 TransactionInfo DTO로 변환
      */
-    private CardTransactionResponse.TransactionInfo convertToTransactionInfo(CardTransaction transaction) {
+    static CardTransactionResponse.TransactionInfo convertToTransactionInfo(TransactionInfoView transaction) {
         return CardTransactionResponse.TransactionInfo.builder()
                 .tranId(transaction.getTransactionId())
                 .tranDate(transaction.getTranDate().format(DateTimeFormatter.ofPattern("yyyyMMdd")))
@@ -720,10 +686,10 @@ public class CardUserService {
     // ========== Helper 메서드들 ==========
 
     /**
-     * API 거래 ID 생성
+     * API 거래 ID 생성 (은행코드 + 시간순 ID, 20자리 고정)
      */
     private String generateApiTranId() {
-        return UUID.randomUUID().toString().replace("-", "").substring(0, 20);
+        return idGenerator.nextId(BANK_CODE, API_TRAN_ID_LENGTH);
     }
 
     /**
@@ -0,0 +1,360 @@
+package com.kb_card.card.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kb_card.card.entity.CardTransaction;
+import com.kb_card.common.exception.BusinessException;
+import com.kb_card.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 카드별 거래 속도(velocity) 한도 검사
+ * 카드별 승인 건수/금액을 1분/1시간/24시간 구간의 버킷 링으로 메모리에 집계하고, 거래 저장 전에 규칙을 평가한다.
+ * 버킷 교체는 CAS, 합산은 LongAdder 로 처리해 승인 경로에서 락을 잡지 않는다.
+ * 집계는 커밋 이후에 반영하며, 기동 시 최근 24시간 승인 거래로 다시 채운다.
+ * DB 장애 중 승인 저널로 처리되는 승인도 같은 집계로 검사·반영하도록 카드번호를 키로 사용한다
+ * (재기동 시점에 아직 재처리되지 않은 저널 승인은 재구성에서 빠진다).
+ * 검사와 반영이 원자적이지 않으므로 같은 카드의 동시 승인은 한도를 소폭 넘을 수 있다 (최대 동시 요청 수만큼).
+ */
+@Slf4j
+@Component
+public class CardVelocityGuard {
+
+    private static final CardTransaction.TransactionCategory[] CATEGORIES = CardTransaction.TransactionCategory.values();
+    private static final VelocityWindow[] WINDOWS = VelocityWindow.values();
+
+    private static final String REBUILD_SQL =
+            "SELECT c.card_no, t.tran_date, t.tran_time, t.approved_amt, t.category " +
+            "FROM card_transactions t JOIN cards c ON c.id = t.card_id " +
+            "WHERE t.tran_type = 'APPROVAL' AND t.tran_date >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final List<VelocityRule> rules;
+    private final Cache<String, CardCounters> counters;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    @Value("${card.velocity.enabled:true}")
+    private boolean enabled;
+
+    @Value("${card.velocity.rebuild-fetch-size:1000}")
+    private int rebuildFetchSize;
+
+    public CardVelocityGuard(JdbcTemplate jdbcTemplate,
+                             MeterRegistry meterRegistry,
+                             ObjectProvider<VelocityRule> customRules,
+                             @Value("${card.velocity.rules:1m:count:20,1h:count:200,24h:amount:50000000}") List<String> ruleSpecs,
+                             @Value("${card.velocity.max-cards:1000000}") long maxCards) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+
+        List<VelocityRule> configured = new ArrayList<>();
+        for (String spec : ruleSpecs) {
+            if (!spec.isBlank()) {
+                configured.add(ThresholdVelocityRule.parse(spec));
+            }
+        }
+        customRules.orderedStream().forEach(configured::add);
+        this.rules = List.copyOf(configured);
+
+        // 24시간 동안 거래가 없는 카드는 집계할 것이 없으므로 제거
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(maxCards)
+                .expireAfterAccess(Duration.ofMillis(VelocityWindow.DAY.getLengthMillis()))
+                .build();
+        Gauge.builder("card.velocity.cards", counters, Cache::estimatedSize)
+                .description("속도 한도 집계 중인 카드 수")
+                .register(meterRegistry);
+
+        log.info("거래 속도 한도 규칙 - {}", rules.stream().map(VelocityRule::getName).toList());
+    }
+
+    /**
+     * 이번 승인으로 한도를 넘으면 VELOCITY_LIMIT_EXCEEDED
+     */
+    public void check(String cardNo, CardTransaction.TransactionType tranType,
+                      CardTransaction.TransactionCategory category, BigDecimal amount) {
+        if (!enabled || rules.isEmpty() || tranType != CardTransaction.TransactionType.APPROVAL) {
+            return;
+        }
+
+        CardCounters card = counters.getIfPresent(cardNo);
+        VelocityRule.Stats stats = card != null ? card.stats(System.currentTimeMillis()) : EMPTY_STATS;
+        long won = toWon(amount);
+        CardTransaction.TransactionCategory tranCategory = category != null ? category : CardTransaction.TransactionCategory.OTHERS;
+
+        for (VelocityRule rule : rules) {
+            if (rule.isExceeded(stats, tranCategory, won)) {
+                Counter.builder("card.velocity.rejected")
+                        .description("속도 한도 초과로 거절된 승인 건수")
+                        .tag("rule", rule.getName())
+                        .register(meterRegistry)
+                        .increment();
+                log.warn("거래 속도 한도 초과 - cardNo: {}, rule: {}, category: {}, amount: {}",
+                        cardNo, rule.getName(), tranCategory, amount);
+                throw new BusinessException(ErrorCode.VELOCITY_LIMIT_EXCEEDED);
+            }
+        }
+    }
+
+    /**
+     * 저장한 거래를 집계에 반영 (트랜잭션 안이면 커밋 이후)
+     */
+    public void recordAfterCommit(CardTransaction transaction) {
+        if (transaction.getTranType() != CardTransaction.TransactionType.APPROVAL) {
+            return;
+        }
+        recordAfterCommit(transaction.getCardNo(), transaction.getCategory(), transaction.getApprovedAmt(),
+                LocalDateTime.of(transaction.getTranDate(), transaction.getTranTime()));
+    }
+
+    /**
+     * 승인 거래를 집계에 반영 (트랜잭션 안이면 커밋 이후, 밖이면 즉시 — 승인 저널 기록 등)
+     */
+    public void recordAfterCommit(String cardNo, CardTransaction.TransactionCategory category, BigDecimal amount,
+                                  LocalDateTime tranDateTime) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(cardNo, category, toWon(amount), toEpochMillis(tranDateTime));
+                }
+            });
+        } else {
+            record(cardNo, category, toWon(amount), toEpochMillis(tranDateTime));
+        }
+    }
+
+    /**
+     * 기동 시 최근 24시간 승인 거래로 집계 재구성
+     * 재구성 중 커밋된 거래는 경계에서 중복 집계될 수 있으며, 이 경우 한도 쪽으로 보수적으로 동작한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        long cutoff = startTime - VelocityWindow.DAY.getLengthMillis();
+        LocalDate fromDate = Instant.ofEpochMilli(cutoff).atZone(zone).toLocalDate();
+        long[] loaded = {0};
+
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(REBUILD_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(rebuildFetchSize);
+                ps.setDate(1, Date.valueOf(fromDate));
+                return ps;
+            }, rs -> {
+                long epochMillis = toEpochMillis(LocalDateTime.of(
+                        rs.getDate("tran_date").toLocalDate(), rs.getTime("tran_time").toLocalTime()));
+                if (epochMillis <= cutoff) {
+                    return;
+                }
+                String category = rs.getString("category");
+                record(rs.getString("card_no"),
+                        category != null ? CardTransaction.TransactionCategory.valueOf(category) : null,
+                        toWon(rs.getBigDecimal("approved_amt")), epochMillis);
+                loaded[0]++;
+            });
+            log.info("거래 속도 집계 재구성 완료 - 거래: {}, 카드: {}, 소요시간: {}ms",
+                    loaded[0], counters.estimatedSize(), System.currentTimeMillis() - startTime);
+        } catch (Exception e) {
+            // 실패해도 이후 승인부터 집계된다
+            log.error("거래 속도 집계 재구성 실패 - 재구성된 거래: {}, error: {}", loaded[0], e.getMessage(), e);
+        }
+    }
+
+    private void record(String cardNo, CardTransaction.TransactionCategory category, long won, long epochMillis) {
+        if (epochMillis <= System.currentTimeMillis() - VelocityWindow.DAY.getLengthMillis()) {
+            return;
+        }
+        counters.get(cardNo, key -> new CardCounters())
+                .add(category != null ? category : CardTransaction.TransactionCategory.OTHERS, won, epochMillis);
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(zone).toInstant().toEpochMilli();
+    }
+
+    private static long toWon(BigDecimal amount) {
+        return amount != null ? amount.setScale(0, RoundingMode.UP).longValue() : 0L;
+    }
+
+    private static final VelocityRule.Stats EMPTY_STATS = new VelocityRule.Stats() {
+        @Override
+        public long count(VelocityWindow window, CardTransaction.TransactionCategory category) {
+            return 0;
+        }
+
+        @Override
+        public long amount(VelocityWindow window, CardTransaction.TransactionCategory category) {
+            return 0;
+        }
+    };
+
+    /**
+     * 카드 한 장의 집계 (0번은 전체, 이후 카테고리별 — 거래가 있는 카테고리만 생성)
+     */
+    private static final class CardCounters {
+
+        private final AtomicReferenceArray<Dimension> dimensions = new AtomicReferenceArray<>(CATEGORIES.length + 1);
+
+        void add(CardTransaction.TransactionCategory category, long won, long epochMillis) {
+            dimension(0).add(won, epochMillis);
+            dimension(category.ordinal() + 1).add(won, epochMillis);
+        }
+
+        private Dimension dimension(int index) {
+            Dimension dimension = dimensions.get(index);
+            if (dimension == null) {
+                Dimension created = new Dimension();
+                dimension = dimensions.compareAndSet(index, null, created) ? created : dimensions.get(index);
+            }
+            return dimension;
+        }
+
+        VelocityRule.Stats stats(long nowMillis) {
+            return new VelocityRule.Stats() {
+                @Override
+                public long count(VelocityWindow window, CardTransaction.TransactionCategory category) {
+                    Dimension dimension = dimensions.get(category != null ? category.ordinal() + 1 : 0);
+                    return dimension != null ? dimension.rings[window.ordinal()].count(nowMillis) : 0;
+                }
+
+                @Override
+                public long amount(VelocityWindow window, CardTransaction.TransactionCategory category) {
+                    Dimension dimension = dimensions.get(category != null ? category.ordinal() + 1 : 0);
+                    return dimension != null ? dimension.rings[window.ordinal()].amount(nowMillis) : 0;
+                }
+            };
+        }
+    }
+
+    /**
+     * 구간별 버킷 링 묶음
+     */
+    private static final class Dimension {
+
+        private final BucketRing[] rings = new BucketRing[WINDOWS.length];
+
+        Dimension() {
+            for (VelocityWindow window : WINDOWS) {
+                rings[window.ordinal()] = new BucketRing(window);
+            }
+        }
+
+        void add(long won, long epochMillis) {
+            for (BucketRing ring : rings) {
+                ring.add(won, epochMillis);
+            }
+        }
+    }
+
+    /**
+     * 구간을 고정 크기 버킷으로 나눈 링
+     * 슬롯의 버킷이 지난 구간이면 새 버킷으로 CAS 교체하고, 더하는 도중 교체되면 새 버킷 기준으로 다시 시도한다.
+     */
+    static final class BucketRing {
+
+        private final long bucketMillis;
+        private final int bucketCount;
+        private final AtomicReferenceArray<Bucket> buckets;
+
+        BucketRing(VelocityWindow window) {
+            this.bucketMillis = window.getBucketMillis();
+            this.bucketCount = window.getBucketCount();
+            this.buckets = new AtomicReferenceArray<>(bucketCount);
+        }
+
+        void add(long won, long epochMillis) {
+            long epoch = epochMillis / bucketMillis;
+            int index = (int) Math.floorMod(epoch, (long) bucketCount);
+            while (true) {
+                Bucket bucket = buckets.get(index);
+                if (bucket == null || bucket.epoch < epoch) {
+                    Bucket fresh = new Bucket(epoch);
+                    if (!buckets.compareAndSet(index, bucket, fresh)) {
+                        continue;
+                    }
+                    bucket = fresh;
+                } else if (bucket.epoch > epoch) {
+                    // 이미 링에서 밀려난 구간
+                    return;
+                }
+
+                bucket.count.increment();
+                bucket.amount.add(won);
+                if (buckets.get(index) == bucket) {
+                    return;
+                }
+            }
+        }
+
+        long count(long nowMillis) {
+            long current = nowMillis / bucketMillis;
+            long sum = 0;
+            for (int i = 0; i < bucketCount; i++) {
+                Bucket bucket = buckets.get(i);
+                if (bucket != null && bucket.epoch > current - bucketCount && bucket.epoch <= current) {
+                    sum += bucket.count.sum();
+                }
+            }
+            return sum;
+        }
+
+        long amount(long nowMillis) {
+            long current = nowMillis / bucketMillis;
+            long sum = 0;
+            for (int i = 0; i < bucketCount; i++) {
+                Bucket bucket = buckets.get(i);
+                if (bucket != null && bucket.epoch > current - bucketCount && bucket.epoch <= current) {
+                    sum += bucket.amount.sum();
+                }
+            }
+            return sum;
+        }
+    }
+
+    private static final class Bucket {
+
+        private final long epoch;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder amount = new LongAdder();
+
+        Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.kb_card.card.service;
+
+import com.kb_card.card.entity.CardTransaction;
+import lombok.Getter;
+
+import java.util.Locale;
+
+/**
+ * 구간별 건수/금액 상한 규칙 (card.velocity.rules 설정)
+ * 표기: 구간[:카테고리]:count|amount:상한 (예: 1m:count:10, 24h:FUEL:amount:500000)
+ * 카테고리를 지정하면 해당 카테고리 거래에만, 생략하면 모든 거래에 전체 카테고리 합계로 적용한다.
+ */
+@Getter
+public class ThresholdVelocityRule implements VelocityRule {
+
+    public enum Metric {
+        COUNT,
+        AMOUNT
+    }
+
+    private final String name;
+    private final VelocityWindow window;
+    private final CardTransaction.TransactionCategory category;
+    private final Metric metric;
+    private final long limit;
+
+    public ThresholdVelocityRule(String name, VelocityWindow window, CardTransaction.TransactionCategory category,
+                                 Metric metric, long limit) {
+        this.name = name;
+        this.window = window;
+        this.category = category;
+        this.metric = metric;
+        this.limit = limit;
+    }
+
+    public static ThresholdVelocityRule parse(String spec) {
+        String[] parts = spec.trim().split(":");
+        if (parts.length != 3 && parts.length != 4) {
+            throw new IllegalArgumentException("Invalid velocity rule: " + spec);
+        }
+        VelocityWindow window = VelocityWindow.fromLabel(parts[0]);
+        CardTransaction.TransactionCategory category = parts.length == 4
+                ? CardTransaction.TransactionCategory.valueOf(parts[1].toUpperCase(Locale.ROOT))
+                : null;
+        Metric metric = Metric.valueOf(parts[parts.length - 2].toUpperCase(Locale.ROOT));
+        long limit = Long.parseLong(parts[parts.length - 1]);
+        return new ThresholdVelocityRule(spec.trim(), window, category, metric, limit);
+    }
+
+    @Override
+    public boolean isExceeded(Stats stats, CardTransaction.TransactionCategory category, long amount) {
+        if (this.category != null && this.category != category) {
+            return false;
+        }
+        return metric == Metric.COUNT
+                ? stats.count(window, this.category) + 1 > limit
+                : stats.amount(window, this.category) + amount > limit;
+    }
+}
@@ -0,0 +1,33 @@
+package com.kb_card.card.service;
+
+import com.kb_card.card.entity.CardTransaction;
+
+/**
+ * 카드 거래 속도(velocity) 한도 규칙
+ * card.velocity.rules 설정 규칙(ThresholdVelocityRule) 외에 이 인터페이스를 구현한 Bean 도 함께 평가된다.
+ */
+public interface VelocityRule {
+
+    /**
+     * 규칙 이름 (지표 태그, 로그용)
+     */
+    String getName();
+
+    /**
+     * 이번 거래를 더하면 한도를 넘는지
+     *
+     * @param stats  이번 거래를 포함하지 않은 카드의 구간별 집계
+     * @param amount 이번 거래 금액 (원)
+     */
+    boolean isExceeded(Stats stats, CardTransaction.TransactionCategory category, long amount);
+
+    /**
+     * 카드의 구간별 승인 건수/금액 집계 (category 가 null 이면 전체 카테고리)
+     */
+    interface Stats {
+
+        long count(VelocityWindow window, CardTransaction.TransactionCategory category);
+
+        long amount(VelocityWindow window, CardTransaction.TransactionCategory category);
+    }
+}
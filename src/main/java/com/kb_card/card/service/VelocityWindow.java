@@ -0,0 +1,40 @@
+package com.kb_card.card.service;
+
+import lombok.Getter;
+
+/**
+ * 거래 속도(velocity) 집계 구간
+ * 구간을 bucketCount 개의 버킷으로 나눈 링으로 집계하므로 최대 버킷 하나만큼 더 긴 구간이 포함될 수 있다.
+ */
+@Getter
+public enum VelocityWindow {
+    MINUTE("1m", 1_000L, 60),       // 1초 버킷 60개
+    HOUR("1h", 60_000L, 60),        // 1분 버킷 60개
+    DAY("24h", 3_600_000L, 24);     // 1시간 버킷 24개
+
+    private final String label;
+    private final long bucketMillis;
+    private final int bucketCount;
+
+    VelocityWindow(String label, long bucketMillis, int bucketCount) {
+        this.label = label;
+        this.bucketMillis = bucketMillis;
+        this.bucketCount = bucketCount;
+    }
+
+    public long getLengthMillis() {
+        return bucketMillis * bucketCount;
+    }
+
+    /**
+     * 설정 표기(1m / 1h / 24h)로 구간 조회
+     */
+    public static VelocityWindow fromLabel(String label) {
+        for (VelocityWindow window : values()) {
+            if (window.label.equalsIgnoreCase(label)) {
+                return window;
+            }
+        }
+        throw new IllegalArgumentException("Unknown velocity window: " + label);
+    }
+}
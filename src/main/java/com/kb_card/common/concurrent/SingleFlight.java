@@ -0,0 +1,96 @@
+package com.kb_card.common.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일 조회 동시 실행 병합 (single-flight)
+ * 같은 (operation, key) 조회가 실행 중이면 새로 실행하지 않고 실행 중인 결과를 함께 받는다.
+ * 결과는 실행이 끝나는 즉시 목록에서 빠지므로 캐시처럼 이전 결과를 재사용하지 않는다.
+ * 공유된 결과는 여러 요청이 함께 보므로 호출 측에서 수정하지 않아야 한다.
+ * card.single-flight.executions : 실제 실행 건수
+ * card.single-flight.coalesced  : 실행 중인 결과를 받은 건수 (병합률 = coalesced / (executions + coalesced))
+ * 두 지표 모두 operation 태그를 가진다.
+ */
+@Component
+public class SingleFlight {
+
+    static final String EXECUTIONS_COUNTER = "card.single-flight.executions";
+    static final String COALESCED_COUNTER = "card.single-flight.coalesced";
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${card.single-flight.enabled:true}")
+    private boolean enabled;
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("card.single-flight.in-flight", inFlight, ConcurrentMap::size)
+                .description("실행 중인 병합 대상 조회 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 operation, key 로 실행 중인 조회가 있으면 그 결과를, 없으면 loader 를 직접 실행한 결과를 반환
+     * loader 가 예외로 끝나면 기다리던 요청도 같은 예외를 받는다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, String key, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        String flightKey = operation + " " + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            counter(COALESCED_COUNTER, operation).increment();
+            return (T) await(existing);
+        }
+
+        counter(EXECUTIONS_COUNTER, operation).increment();
+        T result;
+        try {
+            result = loader.get();
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(flightKey, flight);
+            flight.completeExceptionally(e);
+            throw e;
+        }
+        // 완료 전에 먼저 빼서, 이후 요청은 끝난 결과가 아니라 새 조회를 실행하도록 한다
+        inFlight.remove(flightKey, flight);
+        flight.complete(result);
+        return result;
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private Counter counter(String name, String operation) {
+        return Counter.builder(name)
+                .description(EXECUTIONS_COUNTER.equals(name) ? "병합 대상 조회 실제 실행 건수" : "실행 중인 조회 결과를 공유받은 건수")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
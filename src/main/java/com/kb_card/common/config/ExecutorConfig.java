@@ -0,0 +1,75 @@
+package com.kb_card.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${card.bill-outbox.worker-pool-size:4}")
+    private int billPostingPoolSize;
+
+    @Value("${card.bill-batch.worker-pool-size:0}")
+    private int billJobPoolSize;
+
+    @Value("${card.approval-journal.db-pool-size:16}")
+    private int approvalPoolSize;
+
+    /**
+     * 청구서 반영(outbox) 워커 풀
+     * 큐가 가득 차면 호출한 폴링 스레드가 직접 처리해 자연스럽게 속도를 조절한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor billPostingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(billPostingPoolSize);
+        executor.setMaxPoolSize(billPostingPoolSize);
+        executor.setQueueCapacity(billPostingPoolSize * 100);
+        executor.setThreadNamePrefix("bill-posting-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 월 청구서 작업 파티션 워커 풀
+     * 0 이면 CPU 코어 수. 워커마다 DB 커넥션을 하나씩 쓰므로 DB 풀 크기를 넘지 않게 설정한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor billJobExecutor() {
+        int poolSize = billJobPoolSize > 0 ? billJobPoolSize : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 10);
+        executor.setThreadNamePrefix("bill-job-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 승인 DB 반영 풀 (요청 스레드는 제한 시간까지만 기다린다)
+     * 대기 큐 없이 모든 스레드가 DB 응답을 기다리는 중이면 거절되어 승인 저널로 기록된다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor approvalExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(approvalPoolSize);
+        executor.setMaxPoolSize(approvalPoolSize);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("approval-db-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -2,8 +2,10 @@ package com.kb_card.common.config;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import oracle.security.pki.OraclePKIProvider;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -40,9 +42,15 @@ public class OracleCloudConfig {
     @Value("${oracle.cloud.maximum-pool-size:5}")
     private int maximumPoolSize;
 
+    @Value("${oracle.cloud.connection-timeout-ms:120000}")
+    private long connectionTimeoutMs;
+
+    @Value("${oracle.cloud.pool-name:kb-card-oracle}")
+    private String poolName;
+
     @Bean
     @Primary
-    public DataSource dataSource() {
+    public DataSource dataSource(ObjectProvider<MeterRegistry> meterRegistry) {
         try {
             log.info("Oracle Cloud DataSource 생성 시작...");
 
@@ -71,17 +79,17 @@ public class OracleCloudConfig {
             // 6. 방법 1: cwallet.sso 사용 (가장 간단)
             if (new File(walletPath, "cwallet.sso").exists()) {
                 log.info("cwallet.sso 파일 발견 - SSO Wallet 방식 시도");
-                return createDataSourceWithSSO(walletPath);
+                return createDataSourceWithSSO(walletPath, meterRegistry.getIfAvailable());
             }
             // 7. 방법 2: JKS 파일 사용
             else if (new File(walletPath, "keystore.jks").exists()) {
                 log.info("keystore.jks 파일 발견 - JKS 방식 시도");
-                return createDataSourceWithJKS(walletPath);
+                return createDataSourceWithJKS(walletPath, meterRegistry.getIfAvailable());
             }
             // 8. 방법 3: 기본 TNS 방식
             else {
                 log.info("기본 TNS 방식 시도");
-                return createDataSourceWithTNS(walletPath);
+                return createDataSourceWithTNS(walletPath, meterRegistry.getIfAvailable());
             }
 
         } catch (Exception e) {
@@ -159,7 +167,7 @@ public class OracleCloudConfig {
         }
     }
 
-    private DataSource createDataSourceWithSSO(String walletPath) throws Exception {
+    private DataSource createDataSourceWithSSO(String walletPath, MeterRegistry meterRegistry) throws Exception {
         log.info("SSO Wallet 방식으로 연결 시도");
 
         // SSO Wallet 설정
@@ -167,29 +175,30 @@ public class OracleCloudConfig {
         System.setProperty("oracle.net.wallet_location",
                 "(SOURCE=(METHOD=FILE)(METHOD_DATA=(DIRECTORY=" + walletPath + ")))");
 
-        return createHikariDataSource();
+        return createHikariDataSource(meterRegistry);
     }
 
-    private DataSource createDataSourceWithJKS(String walletPath) throws Exception {
+    private DataSource createDataSourceWithJKS(String walletPath, MeterRegistry meterRegistry) throws Exception {
         log.info("JKS 방식으로 연결 시도");
 
         // JKS 설정
         System.setProperty("oracle.net.tns_admin", walletPath);
 
-        return createHikariDataSource();
+        return createHikariDataSource(meterRegistry);
     }
 
-    private DataSource createDataSourceWithTNS(String walletPath) throws Exception {
+    private DataSource createDataSourceWithTNS(String walletPath, MeterRegistry meterRegistry) throws Exception {
         log.info("기본 TNS 방식으로 연결 시도");
 
         // 최소한의 TNS 설정
         System.setProperty("oracle.net.tns_admin", walletPath);
 
-        return createHikariDataSource();
+        return createHikariDataSource(meterRegistry);
     }
 
-    private DataSource createHikariDataSource() throws Exception {
+    private DataSource createHikariDataSource(MeterRegistry meterRegistry) throws Exception {
         HikariConfig config = new HikariConfig();
+        config.setPoolName(poolName);
 
         config.setJdbcUrl(jdbcUrl);
         config.setUsername(username);
@@ -197,9 +206,10 @@ public class OracleCloudConfig {
         config.setDriverClassName(driverClassName);
 
         // 연결 풀 설정 - 관대하게
+        // 가상 스레드 모드에서는 요청 스레드 수 제한이 없으므로 풀 크기가 곧 DB 동시 작업 수 상한이 된다
         config.setMaximumPoolSize(maximumPoolSize);
         config.setMinimumIdle(0);
-        config.setConnectionTimeout(120000);  // 2분
+        config.setConnectionTimeout(connectionTimeoutMs);  // 기본 2분
         config.setIdleTimeout(600000);        // 10분
         config.setMaxLifetime(1800000);       // 30분
         config.setLeakDetectionThreshold(0);  // 비활성화
@@ -213,6 +223,11 @@ public class OracleCloudConfig {
         props.setProperty("oracle.net.CONNECT_TIMEOUT", "120000");
         config.setDataSourceProperties(props);
 
+        // 풀 지표(hikaricp.connections.*) 등록 - 풀 시작 후에는 설정할 수 없으므로 생성 전에 지정
+        if (meterRegistry != null) {
+            config.setMetricRegistry(meterRegistry);
+        }
+
         log.info("HikariDataSource 생성 시도...");
         HikariDataSource dataSource = new HikariDataSource(config);
 
@@ -24,6 +24,7 @@ public enum ErrorCode {
     INVALID_AGREEMENT(400, "K_003", "제3자정보제공동의여부는 Y만 허용됩니다."),
     NO_VALID_CARDS(404, "K_004", "유효한 카드가 없습니다."),
     USER_WITHDRAWAL_IN_PROGRESS(409, "K_005", "사용자탈퇴 처리중인 서비스입니다."),
+    VELOCITY_LIMIT_EXCEEDED(429, "K_006", "단시간 거래 한도를 초과하였습니다."),
     ;
 
     private final int status;
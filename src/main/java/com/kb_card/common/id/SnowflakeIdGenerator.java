@@ -0,0 +1,95 @@
+package com.kb_card.common.id;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간순 64bit ID 생성기 (Snowflake 방식)
+ * [부호 1bit 0][타임스탬프 41bit (ms, 2024-01-01 기준)][노드 10bit][시퀀스 12bit]
+ * 인스턴스마다 card.id.node-id 를 다르게 설정하면 별도 조율 없이 전역 유일하다.
+ * 락 없이 CAS 로 동작하며, 시계가 뒤로 가거나 같은 ms 에 4096건을 넘으면
+ * 논리 시각을 앞당겨 단조 증가를 유지한다.
+ */
+@Component
+public class SnowflakeIdGenerator {
+
+    static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    /**
+     * 63bit 양수를 36진수로 표현하는 최대 자릿수
+     */
+    public static final int ENCODED_LENGTH = 13;
+
+    private static final int RADIX = 36;
+    private static final char[] DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
+    private final long nodeBits;
+
+    /**
+     * 마지막 발급 상태 (timestamp << SEQUENCE_BITS | sequence)
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(@Value("${card.id.node-id:0}") long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("card.id.node-id 는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeBits = nodeId << SEQUENCE_BITS;
+    }
+
+    /**
+     * 다음 ID
+     */
+    public long nextId() {
+        long now = System.currentTimeMillis() - EPOCH_MILLIS;
+        while (true) {
+            long last = state.get();
+            long lastTimestamp = last >>> SEQUENCE_BITS;
+            long next;
+            if (now > lastTimestamp) {
+                next = now << SEQUENCE_BITS;
+            } else {
+                // 같은 ms 이거나 시계가 뒤로 간 경우: 시퀀스 증가 (넘치면 다음 ms 로 넘어감)
+                next = last + 1;
+            }
+            if (state.compareAndSet(last, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /**
+     * 접두어 + 고정폭(13자리) 36진수 ID
+     */
+    public String nextId(String prefix) {
+        return nextId(prefix, prefix.length() + ENCODED_LENGTH);
+    }
+
+    /**
+     * 접두어 + 36진수 ID 를 length 자리로 맞춘 문자열 (ID 부분은 앞을 0으로 채움)
+     */
+    public String nextId(String prefix, int length) {
+        if (length - prefix.length() < ENCODED_LENGTH) {
+            throw new IllegalArgumentException("ID 길이가 부족합니다: " + length);
+        }
+
+        char[] chars = new char[length];
+        prefix.getChars(0, prefix.length(), chars, 0);
+
+        long id = nextId();
+        for (int i = length - 1; i >= prefix.length(); i--) {
+            chars[i] = DIGITS[(int) (id % RADIX)];
+            id /= RADIX;
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,294 @@
+package com.kb_card.common.idempotency;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * KFTC 요청 멱등 처리 (bankTranId 기준 응답 재사용)
+ * 게이트웨이가 시간 초과로 같은 요청을 재전송하면 (bankTranId, URI, 요청 해시) 키로 저장된 응답 바이트를 그대로 돌려준다.
+ * 같은 키의 요청이 동시에 들어오면 먼저 들어온 요청만 실행하고 나머지는 그 결과를 기다려 함께 응답한다.
+ * 2xx 가 아니거나 참가기관 응답코드가 999(시스템 오류)인 응답은 저장하지 않으므로 재전송 시 다시 실행된다.
+ */
+@Slf4j
+@Component
+public class KftcIdempotencyFilter extends OncePerRequestFilter {
+
+    private static final String REPLAY_HEADER = "X-Idempotent-Replay";
+
+    private static final String SYSTEM_ERROR_CODE = "999";
+
+    private final ObjectMapper objectMapper;
+    private final Cache<String, CompletableFuture<StoredResponse>> responses;
+    private final Counter replayedCounter;
+
+    @Value("${card.idempotency.enabled:true}")
+    private boolean enabled;
+
+    @Value("${card.idempotency.paths:/v2.0/cards/list,/v2.0/cards/issue_info,/v2.0/cards/bills,/v2.0/cards/bills/detail,/v2.0/cards/transactions,/v2.0/cards/cancel}")
+    private Set<String> paths;
+
+    @Value("${card.idempotency.wait-timeout-ms:30000}")
+    private long waitTimeoutMs;
+
+    public KftcIdempotencyFilter(ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${card.idempotency.max-size:10000}") long maxSize,
+                                 @Value("${card.idempotency.ttl-seconds:600}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.replayedCounter = Counter.builder("card.kftc.idempotent.replayed")
+                .description("저장된 응답으로 처리된 KFTC 재전송 요청 건수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !"POST".equals(request.getMethod()) || !paths.contains(request.getRequestURI());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        byte[] body = request.getInputStream().readAllBytes();
+        HttpServletRequest cachedRequest = new CachedBodyRequest(request, body);
+
+        String bankTranId = readBankTranId(body);
+        if (bankTranId == null) {
+            chain.doFilter(cachedRequest, response);
+            return;
+        }
+
+        String key = bankTranId + " " + request.getRequestURI() + " "
+                + sha256(request.getHeader(HttpHeaders.AUTHORIZATION), body);
+        CompletableFuture<StoredResponse> inFlight = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> existing = responses.asMap().putIfAbsent(key, inFlight);
+
+        if (existing != null) {
+            StoredResponse stored = await(existing, bankTranId);
+            if (stored != null) {
+                replayedCounter.increment();
+                log.info("KFTC 재전송 요청 저장 응답 반환 - bankTranId: {}, uri: {}", bankTranId, request.getRequestURI());
+                write(stored, response);
+                return;
+            }
+            // 먼저 실행된 요청의 응답이 저장 대상이 아니면 직접 실행
+            chain.doFilter(cachedRequest, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        StoredResponse stored = null;
+        try {
+            chain.doFilter(cachedRequest, responseWrapper);
+            stored = toStoredResponse(responseWrapper);
+        } finally {
+            if (stored != null) {
+                inFlight.complete(stored);
+            } else {
+                responses.asMap().remove(key, inFlight);
+                inFlight.complete(null);
+            }
+        }
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private StoredResponse await(CompletableFuture<StoredResponse> future, String bankTranId) {
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("KFTC 중복 요청 대기 시간 초과, 직접 실행 - bankTranId: {}", bankTranId);
+            return null;
+        } catch (ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * 저장 가능한 응답이면 본문 바이트와 함께 반환, 아니면 null
+     */
+    private StoredResponse toStoredResponse(ContentCachingResponseWrapper response) {
+        int status = response.getStatus();
+        if (status < 200 || status >= 300) {
+            return null;
+        }
+        byte[] content = response.getContentAsByteArray();
+        if (SYSTEM_ERROR_CODE.equals(readField(content, "bank_rsp_code", "bankRspCode"))) {
+            return null;
+        }
+        return new StoredResponse(status, response.getContentType(), content);
+    }
+
+    private void write(StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.getStatus());
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        response.setHeader(REPLAY_HEADER, "true");
+        response.setContentLength(stored.getBody().length);
+        response.getOutputStream().write(stored.getBody());
+    }
+
+    private String readBankTranId(byte[] body) {
+        String bankTranId = readField(body, "bank_tran_id", "bankTranId");
+        return bankTranId != null && !bankTranId.isBlank() ? bankTranId : null;
+    }
+
+    /**
+     * JSON 최상위 필드 값 (요청/응답 DTO 마다 snake_case / camelCase 가 섞여 있어 둘 다 확인)
+     */
+    private String readField(byte[] json, String snakeName, String camelName) {
+        if (json.length == 0) {
+            return null;
+        }
+        try {
+            JsonNode root = objectMapper.readTree(json);
+            JsonNode value = root.hasNonNull(snakeName) ? root.get(snakeName) : root.get(camelName);
+            return value != null && value.isValueNode() ? value.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static String sha256(String authorization, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            if (authorization != null) {
+                digest.update(authorization.getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 저장된 응답
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class StoredResponse {
+
+        private final int status;
+
+        private final String contentType;
+
+        private final byte[] body;
+    }
+
+    /**
+     * 미리 읽어 둔 본문을 다시 제공하는 요청 래퍼
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * 본문을 이미 모두 읽어 두었으므로 등록 즉시 데이터 도착과 읽기 완료를 알린다
+                 */
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    if (readListener == null) {
+                        throw new NullPointerException("readListener");
+                    }
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
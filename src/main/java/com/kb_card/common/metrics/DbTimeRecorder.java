@@ -0,0 +1,37 @@
+package com.kb_card.common.metrics;
+
+/**
+ * 요청 처리 스레드별 DB 소요 시간 누적기
+ * KFTC 요청 시작 시 start, 종료 시 stop 으로 요청 한 건 동안 Repository 호출에 걸린 시간을 모은다.
+ */
+public final class DbTimeRecorder {
+
+    private static final ThreadLocal<long[]> ELAPSED = new ThreadLocal<>();
+
+    private DbTimeRecorder() {
+    }
+
+    static void start() {
+        ELAPSED.set(new long[1]);
+    }
+
+    /**
+     * 누적된 DB 시간(ns)을 반환하고 초기화
+     */
+    static long stop() {
+        long[] elapsed = ELAPSED.get();
+        ELAPSED.remove();
+        return elapsed != null ? elapsed[0] : 0L;
+    }
+
+    static boolean isActive() {
+        return ELAPSED.get() != null;
+    }
+
+    static void add(long nanos) {
+        long[] elapsed = ELAPSED.get();
+        if (elapsed != null) {
+            elapsed[0] += nanos;
+        }
+    }
+}
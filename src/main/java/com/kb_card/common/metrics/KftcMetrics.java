@@ -0,0 +1,44 @@
+package com.kb_card.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KFTC 요청 지표
+ * kftc.request    : 요청 전체 처리 시간
+ * kftc.request.db : 그 중 Repository 호출에 걸린 시간
+ * 두 지표 모두 endpoint, bank_rsp_code, exception 태그를 가진다.
+ */
+@Component
+@RequiredArgsConstructor
+public class KftcMetrics {
+
+    static final String REQUEST_TIMER = "kftc.request";
+    static final String DB_TIMER = "kftc.request.db";
+    static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    public void record(String endpoint, String bankRspCode, String exception, long totalNanos, long dbNanos) {
+        String rspCode = bankRspCode != null ? bankRspCode : NONE;
+        String exceptionName = exception != null ? exception : NONE;
+
+        Timer.builder(REQUEST_TIMER)
+                .description("KFTC 요청 처리 시간")
+                .tags("endpoint", endpoint, "bank_rsp_code", rspCode, "exception", exceptionName)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(totalNanos, TimeUnit.NANOSECONDS);
+
+        Timer.builder(DB_TIMER)
+                .description("KFTC 요청 중 DB(Repository) 소요 시간")
+                .tags("endpoint", endpoint, "bank_rsp_code", rspCode, "exception", exceptionName)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(dbNanos, TimeUnit.NANOSECONDS);
+    }
+}
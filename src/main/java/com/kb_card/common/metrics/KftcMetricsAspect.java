@@ -0,0 +1,62 @@
+package com.kb_card.common.metrics;
+
+import com.kb_card.card.dto.KftcResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * KFTC 연계 컨트롤러(CardUserController) 요청 계측
+ * 응답 본문의 bankRspCode 를 태그로 붙여 응답코드별 건수/지연을 볼 수 있게 한다.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class KftcMetricsAspect {
+
+    private final KftcMetrics kftcMetrics;
+
+    @Around("execution(public org.springframework.http.ResponseEntity com.kb_card.card.controller.CardUserController.*(..))")
+    public Object timeKftcRequest(ProceedingJoinPoint joinPoint) throws Throwable {
+        String endpoint = resolveEndpoint(joinPoint);
+        DbTimeRecorder.start();
+        long start = System.nanoTime();
+        String bankRspCode = null;
+        String exception = null;
+
+        try {
+            Object result = joinPoint.proceed();
+            if (result instanceof ResponseEntity<?> entity && entity.getBody() instanceof KftcResponse response) {
+                bankRspCode = response.getBankRspCode();
+            }
+            return result;
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            long dbNanos = DbTimeRecorder.stop();
+            kftcMetrics.record(endpoint, bankRspCode, exception, System.nanoTime() - start, dbNanos);
+        }
+    }
+
+    /**
+     * 매핑된 URL 패턴 (예: /v2.0/cards/list), 없으면 메서드명
+     */
+    private String resolveEndpoint(ProceedingJoinPoint joinPoint) {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern != null) {
+                return pattern.toString();
+            }
+        }
+        return joinPoint.getSignature().getName();
+    }
+}
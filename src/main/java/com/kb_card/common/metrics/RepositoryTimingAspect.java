@@ -0,0 +1,30 @@
+package com.kb_card.common.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Repository 호출 시간을 현재 요청의 DB 시간으로 누적
+ * KFTC 요청 처리 중이 아닐 때는 시간을 재지 않는다.
+ * (지연 로딩으로 발생하는 쿼리는 Repository 호출 밖이므로 포함되지 않음)
+ */
+@Aspect
+@Component
+public class RepositoryTimingAspect {
+
+    @Around("target(org.springframework.data.repository.Repository)")
+    public Object recordDbTime(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!DbTimeRecorder.isActive()) {
+            return joinPoint.proceed();
+        }
+
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            DbTimeRecorder.add(System.nanoTime() - start);
+        }
+    }
+}
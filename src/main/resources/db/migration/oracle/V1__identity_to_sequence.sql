@@ -0,0 +1,34 @@
+-- IDENTITY 컬럼을 시퀀스 기반 ID로 전환
+-- Hibernate pooled-lo 최적화기(allocationSize 50)와 맞추기 위해 INCREMENT BY 50 으로 생성하고,
+-- 기존 데이터가 있으면 MAX(id) + 1 부터 시작한다. 테이블이 아직 없으면 시퀀스만 만든다.
+DECLARE
+    PROCEDURE migrate(p_table VARCHAR2, p_id_column VARCHAR2, p_sequence VARCHAR2) IS
+        v_count NUMBER;
+        v_start NUMBER := 1;
+    BEGIN
+        SELECT COUNT(*) INTO v_count FROM user_tables WHERE table_name = UPPER(p_table);
+        IF v_count > 0 THEN
+            EXECUTE IMMEDIATE 'SELECT NVL(MAX(' || p_id_column || '), 0) + 1 FROM ' || p_table INTO v_start;
+
+            SELECT COUNT(*) INTO v_count FROM user_tab_identity_cols
+             WHERE table_name = UPPER(p_table) AND column_name = UPPER(p_id_column);
+            IF v_count > 0 THEN
+                EXECUTE IMMEDIATE 'ALTER TABLE ' || p_table || ' MODIFY (' || p_id_column || ' DROP IDENTITY)';
+            END IF;
+        END IF;
+
+        SELECT COUNT(*) INTO v_count FROM user_sequences WHERE sequence_name = UPPER(p_sequence);
+        IF v_count = 0 THEN
+            EXECUTE IMMEDIATE 'CREATE SEQUENCE ' || p_sequence || ' START WITH ' || v_start || ' INCREMENT BY 50';
+        END IF;
+    END;
+BEGIN
+    migrate('cards', 'card_id', 'cards_seq');
+    migrate('card_transactions', 'id', 'card_transactions_seq');
+    migrate('card_bills', 'id', 'card_bills_seq');
+    migrate('card_bill_details', 'id', 'card_bill_details_seq');
+    migrate('card_applications', 'id', 'card_applications_seq');
+    migrate('card_bill_outbox', 'id', 'card_bill_outbox_seq');
+    migrate('card_bill_dead_letters', 'id', 'card_bill_dead_letters_seq');
+END;
+/
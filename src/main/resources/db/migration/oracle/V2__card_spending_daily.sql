@@ -0,0 +1,52 @@
+-- 카드별 일자 사용 집계(card_spending_daily) 생성 및 기존 거래 적재
+-- 거래 테이블이 이미 있고 집계 테이블이 없는 환경에서만 실행한다. (신규 환경은 Hibernate 가 빈 테이블/시퀀스를 만든다)
+-- 적재 이후의 거래는 애플리케이션이 거래 등록 시 증분 반영한다.
+DECLARE
+    v_count NUMBER;
+    v_start NUMBER;
+BEGIN
+    SELECT COUNT(*) INTO v_count FROM user_tables WHERE table_name = 'CARD_TRANSACTIONS';
+    IF v_count = 0 THEN
+        RETURN;
+    END IF;
+
+    SELECT COUNT(*) INTO v_count FROM user_tables WHERE table_name = 'CARD_SPENDING_DAILY';
+    IF v_count > 0 THEN
+        RETURN;
+    END IF;
+
+    EXECUTE IMMEDIATE
+        'CREATE TABLE card_spending_daily (' ||
+        '    id NUMBER(19) NOT NULL,' ||
+        '    card_id NUMBER(19) NOT NULL,' ||
+        '    stat_date DATE NOT NULL,' ||
+        '    category VARCHAR2(20 CHAR) NOT NULL,' ||
+        '    tran_type VARCHAR2(20 CHAR) NOT NULL,' ||
+        '    tran_count NUMBER(19) NOT NULL,' ||
+        '    amount_sum NUMBER(17, 2) NOT NULL,' ||
+        '    created_at TIMESTAMP(6) NOT NULL,' ||
+        '    modified_at TIMESTAMP(6),' ||
+        '    CONSTRAINT pk_card_spending_daily PRIMARY KEY (id),' ||
+        '    CONSTRAINT uk_card_spending_daily UNIQUE (card_id, stat_date, category, tran_type),' ||
+        '    CONSTRAINT fk_card_spending_daily_card FOREIGN KEY (card_id) REFERENCES cards (card_id)' ||
+        ')';
+
+    EXECUTE IMMEDIATE
+        'INSERT INTO card_spending_daily ' ||
+        '    (id, card_id, stat_date, category, tran_type, tran_count, amount_sum, created_at, modified_at) ' ||
+        'SELECT ROWNUM, g.card_id, g.stat_date, g.category, g.tran_type, g.tran_count, g.amount_sum, ' ||
+        '       SYSTIMESTAMP, SYSTIMESTAMP ' ||
+        '  FROM (SELECT t.card_id, TRUNC(t.tran_date) AS stat_date, ' ||
+        '               NVL(t.category, ''OTHERS'') AS category, t.tran_type, ' ||
+        '               COUNT(*) AS tran_count, SUM(t.approved_amt) AS amount_sum ' ||
+        '          FROM card_transactions t ' ||
+        '         GROUP BY t.card_id, TRUNC(t.tran_date), NVL(t.category, ''OTHERS''), t.tran_type) g';
+    v_start := SQL%ROWCOUNT + 1;
+
+    -- 적재 행 ID(1..N) 이후부터 pooled-lo(allocationSize 50) 블록을 할당한다
+    SELECT COUNT(*) INTO v_count FROM user_sequences WHERE sequence_name = 'CARD_SPENDING_DAILY_SEQ';
+    IF v_count = 0 THEN
+        EXECUTE IMMEDIATE 'CREATE SEQUENCE card_spending_daily_seq START WITH ' || v_start || ' INCREMENT BY 50';
+    END IF;
+END;
+/
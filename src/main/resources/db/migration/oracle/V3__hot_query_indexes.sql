@@ -0,0 +1,31 @@
+-- 조회 빈도가 높은 쿼리의 WHERE + ORDER BY 컬럼 순서에 맞춘 복합 인덱스
+-- 인덱스 범위 스캔(내림차순 정렬은 역방향 스캔)으로 정렬 없이 처리되도록 한다.
+-- 엔티티 @Table(indexes) 와 같은 이름을 사용하며, 이미 있거나 테이블이 없으면 건너뛴다.
+-- 운영 중 적용을 위해 ONLINE 으로 생성한다.
+DECLARE
+    PROCEDURE create_index(p_index VARCHAR2, p_table VARCHAR2, p_columns VARCHAR2) IS
+        v_count NUMBER;
+    BEGIN
+        SELECT COUNT(*) INTO v_count FROM user_tables WHERE table_name = UPPER(p_table);
+        IF v_count = 0 THEN
+            RETURN;
+        END IF;
+
+        SELECT COUNT(*) INTO v_count FROM user_indexes WHERE index_name = UPPER(p_index);
+        IF v_count = 0 THEN
+            EXECUTE IMMEDIATE 'CREATE INDEX ' || p_index || ' ON ' || p_table || ' (' || p_columns || ') ONLINE';
+        END IF;
+    END;
+BEGIN
+    -- 카드별 기간 거래내역 (keyset 페이징: tran_date, tran_time, id 내림차순)
+    create_index('idx_card_transactions_card_date', 'card_transactions', 'card_id, tran_date, tran_time, id');
+    -- 카드별 청구월/활성 청구서 조회
+    create_index('idx_card_bills_card_month_status', 'card_bills', 'card_id, charge_month, bill_status');
+    -- 청구월 활성 청구서 ID 구간 조회 (월 마감 배치)
+    create_index('idx_card_bills_month_status_id', 'card_bills', 'charge_month, bill_status, id');
+    -- 청구서별 상세 내역 (paid_date, paid_time 내림차순)
+    create_index('idx_card_bill_details_bill_paid', 'card_bill_details', 'card_bill_id, paid_date, paid_time');
+    -- 상태별 신청 목록 (application_date 순)
+    create_index('idx_card_applications_status_date', 'card_applications', 'application_status, application_date');
+END;
+/
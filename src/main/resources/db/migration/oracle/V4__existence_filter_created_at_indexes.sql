@@ -0,0 +1,15 @@
+-- cards / card_users 의 created_at 인덱스
+-- CardExistenceFilter 는 전체 재구축 사이에 created_at >= :since 로 최근 등록분만 짧은 주기로 읽는다.
+-- 인덱스가 없으면 이 증분 조회가 매번 두 테이블을 전체 스캔하므로, 범위 조회가 되도록 인덱스를 추가한다.
+-- 이름은 Card / CardUser 엔티티의 @Index 와 같으며, 테이블이 있고 인덱스가 아직 없는 경우에만 만든다.
+BEGIN
+    FOR t IN (SELECT c.index_name, c.table_name
+                FROM (SELECT 'IDX_CARDS_CREATED_AT' index_name, 'CARDS' table_name FROM dual
+                      UNION ALL
+                      SELECT 'IDX_CARD_USERS_CREATED_AT', 'CARD_USERS' FROM dual) c
+                JOIN user_tables ut ON ut.table_name = c.table_name
+               WHERE NOT EXISTS (SELECT 1 FROM user_indexes ui WHERE ui.index_name = c.index_name)) LOOP
+        EXECUTE IMMEDIATE 'CREATE INDEX ' || t.index_name || ' ON ' || t.table_name || ' (created_at) ONLINE';
+    END LOOP;
+END;
+/
@@ -0,0 +1,37 @@
+-- 카드 상품 이미지(LOB)를 2차 캐시 대상인 card_products 에서 card_product_images 로 분리
+-- 상품 테이블이 있는 환경에서만 실행하며, 이미 옮긴 상품은 건너뛴다. (신규 환경은 Hibernate 가 빈 테이블을 만든다)
+-- 기존 card_products.card_image 컬럼은 롤백에 대비해 남겨 두고 이후 별도로 삭제한다.
+DECLARE
+    v_count NUMBER;
+BEGIN
+    SELECT COUNT(*) INTO v_count FROM user_tables WHERE table_name = 'CARD_PRODUCTS';
+    IF v_count = 0 THEN
+        RETURN;
+    END IF;
+
+    SELECT COUNT(*) INTO v_count FROM user_tables WHERE table_name = 'CARD_PRODUCT_IMAGES';
+    IF v_count = 0 THEN
+        EXECUTE IMMEDIATE
+            'CREATE TABLE card_product_images (' ||
+            '    product_code VARCHAR2(10 CHAR) NOT NULL,' ||
+            '    card_image CLOB,' ||
+            '    created_at TIMESTAMP(6) NOT NULL,' ||
+            '    modified_at TIMESTAMP(6),' ||
+            '    CONSTRAINT pk_card_product_images PRIMARY KEY (product_code)' ||
+            ')';
+    END IF;
+
+    SELECT COUNT(*) INTO v_count FROM user_tab_columns
+     WHERE table_name = 'CARD_PRODUCTS' AND column_name = 'CARD_IMAGE';
+    IF v_count = 0 THEN
+        RETURN;
+    END IF;
+
+    EXECUTE IMMEDIATE
+        'INSERT INTO card_product_images (product_code, card_image, created_at, modified_at) ' ||
+        'SELECT p.product_code, p.card_image, SYSTIMESTAMP, SYSTIMESTAMP ' ||
+        '  FROM card_products p ' ||
+        ' WHERE p.card_image IS NOT NULL ' ||
+        '   AND NOT EXISTS (SELECT 1 FROM card_product_images i WHERE i.product_code = p.product_code)';
+END;
+/
@@ -0,0 +1,24 @@
+-- card_products.card_image 제거 (상품 이미지는 card_product_images 에서만 관리)
+-- V5 이후 이 컬럼에 반영된 이미지 변경은 애플리케이션이 읽지 않으므로 조용히 누락되었다.
+-- 삭제 전에 한 번 더 card_product_images 로 맞춘 뒤 컬럼을 없애, 이후 이 컬럼을 갱신하는 작업은 오류로 드러나게 한다.
+DECLARE
+    v_count NUMBER;
+BEGIN
+    SELECT COUNT(*) INTO v_count FROM user_tab_columns
+     WHERE table_name = 'CARD_PRODUCTS' AND column_name = 'CARD_IMAGE';
+    IF v_count = 0 THEN
+        RETURN;
+    END IF;
+
+    EXECUTE IMMEDIATE
+        'MERGE INTO card_product_images i ' ||
+        'USING (SELECT product_code, card_image FROM card_products WHERE card_image IS NOT NULL) p ' ||
+        'ON (i.product_code = p.product_code) ' ||
+        'WHEN MATCHED THEN UPDATE SET i.card_image = p.card_image, i.modified_at = SYSTIMESTAMP ' ||
+        '    WHERE i.card_image IS NULL OR DBMS_LOB.COMPARE(i.card_image, p.card_image) <> 0 ' ||
+        'WHEN NOT MATCHED THEN INSERT (product_code, card_image, created_at, modified_at) ' ||
+        '    VALUES (p.product_code, p.card_image, SYSTIMESTAMP, SYSTIMESTAMP)';
+
+    EXECUTE IMMEDIATE 'ALTER TABLE card_products DROP COLUMN card_image';
+END;
+/
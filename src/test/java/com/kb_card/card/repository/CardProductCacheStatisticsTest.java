@@ -0,0 +1,109 @@
+package com.kb_card.card.repository;
+
+import com.kb_card.card.entity.CardProduct;
+import com.kb_card.card.entity.CardProductImage;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CardProduct 2차 캐시(cardProduct 영역) 적중/미적중 수치 확인
+ * 운영과 같은 jcache(Caffeine) 설정으로 H2 에 Hibernate 를 직접 띄워 Statistics 로 측정한다.
+ * 상품 이미지(LOB)는 CardProductImage 로 분리되어 캐시 항목에 실리지 않아야 한다.
+ */
+class CardProductCacheStatisticsTest {
+
+	private static final List<String> PRODUCT_CODES = List.of("KB001", "KB002", "KB003");
+	private static final int SESSIONS = 100;
+
+	private static SessionFactory sessionFactory;
+
+	@BeforeAll
+	static void setUp() {
+		sessionFactory = new Configuration()
+				.addAnnotatedClass(CardProduct.class)
+				.addAnnotatedClass(CardProductImage.class)
+				.setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+				.setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:card_product_cache;DB_CLOSE_DELAY=-1")
+				.setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+				.setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+				.setProperty(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true")
+				.setProperty(AvailableSettings.CACHE_REGION_FACTORY, "jcache")
+				.setProperty("hibernate.javax.cache.provider", "com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider")
+				.setProperty("hibernate.javax.cache.missing_cache_strategy", "create")
+				.setProperty(AvailableSettings.JAKARTA_SHARED_CACHE_MODE, "ENABLE_SELECTIVE")
+				.setProperty(AvailableSettings.GENERATE_STATISTICS, "true")
+				.buildSessionFactory();
+
+		sessionFactory.inTransaction(session -> {
+			for (String productCode : PRODUCT_CODES) {
+				session.createNativeMutationQuery("INSERT INTO card_products (product_code, product_name, card_type, " +
+								"annual_fee, card_grade, status, created_at) VALUES (?1, ?2, 'CREDIT', 15000, 'STANDARD', 'ACTIVE', CURRENT_TIMESTAMP)")
+						.setParameter(1, productCode)
+						.setParameter(2, productCode + " 카드")
+						.executeUpdate();
+				session.createNativeMutationQuery("INSERT INTO card_product_images (product_code, card_image, created_at) " +
+								"VALUES (?1, ?2, CURRENT_TIMESTAMP)")
+						.setParameter(1, productCode)
+						.setParameter(2, "A".repeat(8 * 1024))
+						.executeUpdate();
+			}
+		});
+	}
+
+	@AfterAll
+	static void tearDown() {
+		sessionFactory.close();
+	}
+
+	@BeforeEach
+	void clearCacheAndStatistics() {
+		sessionFactory.getCache().evictAllRegions();
+		sessionFactory.getStatistics().clear();
+	}
+
+	@Test
+	void productLookupsAreServedFromSecondLevelCacheAfterFirstLoad() {
+		for (int i = 0; i < SESSIONS; i++) {
+			try (Session session = sessionFactory.openSession()) {
+				for (String productCode : PRODUCT_CODES) {
+					assertThat(session.get(CardProduct.class, productCode)).isNotNull();
+				}
+			}
+		}
+
+		Statistics statistics = sessionFactory.getStatistics();
+		CacheRegionStatistics region = statistics.getDomainDataRegionStatistics("cardProduct");
+		// 상품별 첫 조회만 DB 로 가고 (3 miss, 3 put) 나머지 99 세션 x 3 건은 캐시 적중
+		assertThat(region.getMissCount()).isEqualTo(PRODUCT_CODES.size());
+		assertThat(region.getPutCount()).isEqualTo(PRODUCT_CODES.size());
+		assertThat(region.getHitCount()).isEqualTo((long) (SESSIONS - 1) * PRODUCT_CODES.size());
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(PRODUCT_CODES.size());
+	}
+
+	@Test
+	void productImageIsNotCached() {
+		for (int i = 0; i < 2; i++) {
+			try (Session session = sessionFactory.openSession()) {
+				assertThat(session.get(CardProductImage.class, "KB001").getCardImage()).hasSize(8 * 1024);
+			}
+		}
+
+		Statistics statistics = sessionFactory.getStatistics();
+		assertThat(statistics.getSecondLevelCachePutCount()).isZero();
+		assertThat(statistics.getSecondLevelCacheHitCount()).isZero();
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+}
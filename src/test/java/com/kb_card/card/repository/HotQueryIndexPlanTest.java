@@ -0,0 +1,113 @@
+package com.kb_card.card.repository;
+
+import com.kb_card.card.entity.CardApplication;
+import com.kb_card.card.entity.CardBill;
+import com.kb_card.card.entity.CardBillDetail;
+import com.kb_card.card.entity.CardTransaction;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 엔티티 @Table(indexes) 로 선언한 복합 인덱스가 주요 조회 쿼리에 사용되는지 실행계획으로 확인
+ * H2 (Oracle 호환 모드) 에 조회 컬럼만 가진 테이블과 엔티티의 인덱스를 만들고 EXPLAIN 결과를 검사한다.
+ */
+class HotQueryIndexPlanTest {
+
+	private static Connection connection;
+
+	@BeforeAll
+	static void setUp() throws SQLException {
+		connection = DriverManager.getConnection("jdbc:h2:mem:hot_query_index_plan;MODE=Oracle;DB_CLOSE_DELAY=-1");
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE card_transactions (id NUMBER(19) PRIMARY KEY, card_id NUMBER(19) NOT NULL, " +
+					"tran_date DATE NOT NULL, tran_time TIME NOT NULL, approved_amt NUMBER(15, 2) NOT NULL, " +
+					"tran_type VARCHAR2(20) NOT NULL, category VARCHAR2(20))");
+			statement.execute("CREATE TABLE card_bills (id NUMBER(19) PRIMARY KEY, card_id NUMBER(19) NOT NULL, " +
+					"charge_month VARCHAR2(6) NOT NULL, settlement_seq_no VARCHAR2(4) NOT NULL, " +
+					"bill_status VARCHAR2(20) NOT NULL, " +
+					"CONSTRAINT uk_card_bills_card_month_seq UNIQUE (card_id, charge_month, settlement_seq_no))");
+			statement.execute("CREATE TABLE card_bill_details (id NUMBER(19) PRIMARY KEY, card_bill_id NUMBER(19) NOT NULL, " +
+					"paid_date VARCHAR2(8) NOT NULL, paid_time VARCHAR2(6) NOT NULL, paid_amt NUMBER(15, 2) NOT NULL)");
+			statement.execute("CREATE TABLE card_applications (id NUMBER(19) PRIMARY KEY, " +
+					"application_status VARCHAR2(20) NOT NULL, application_date TIMESTAMP NOT NULL)");
+
+			createIndexes(statement, CardTransaction.class);
+			createIndexes(statement, CardBill.class);
+			createIndexes(statement, CardBillDetail.class);
+			createIndexes(statement, CardApplication.class);
+		}
+	}
+
+	@AfterAll
+	static void tearDown() throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("DROP ALL OBJECTS");
+		}
+		connection.close();
+	}
+
+	@Test
+	void transactionKeysetPageUsesCardDateIndex() throws SQLException {
+		assertThat(explain("SELECT t.id, t.tran_date, t.tran_time, t.approved_amt FROM card_transactions t " +
+				"WHERE t.card_id = 1 AND t.tran_date BETWEEN DATE '2025-01-01' AND DATE '2025-01-31' " +
+				"AND (t.tran_date < DATE '2025-01-20' " +
+				"OR (t.tran_date = DATE '2025-01-20' AND t.tran_time < TIME '12:00:00')) " +
+				"ORDER BY t.tran_date DESC, t.tran_time DESC, t.id DESC FETCH FIRST 21 ROWS ONLY"))
+				.contains("IDX_CARD_TRANSACTIONS_CARD_DATE")
+				.doesNotContain("TABLESCAN");
+	}
+
+	@Test
+	void activeBillByCardAndMonthUsesCardMonthStatusIndex() throws SQLException {
+		assertThat(explain("SELECT b.id FROM card_bills b " +
+				"WHERE b.card_id = 1 AND b.charge_month = '202501' AND b.bill_status = 'ACTIVE'"))
+				.contains("IDX_CARD_BILLS_CARD_MONTH_STATUS")
+				.doesNotContain("TABLESCAN");
+	}
+
+	@Test
+	void billDetailsByBillUsesBillPaidIndex() throws SQLException {
+		assertThat(explain("SELECT d.id, d.paid_date, d.paid_time, d.paid_amt FROM card_bill_details d " +
+				"WHERE d.card_bill_id = 1 ORDER BY d.paid_date DESC, d.paid_time DESC"))
+				.contains("IDX_CARD_BILL_DETAILS_BILL_PAID")
+				.doesNotContain("TABLESCAN");
+	}
+
+	@Test
+	void pendingApplicationsUseStatusDateIndex() throws SQLException {
+		assertThat(explain("SELECT a.id FROM card_applications a " +
+				"WHERE a.application_status = 'PENDING' ORDER BY a.application_date ASC"))
+				.contains("IDX_CARD_APPLICATIONS_STATUS_DATE")
+				.doesNotContain("TABLESCAN");
+	}
+
+	private static void createIndexes(Statement statement, Class<?> entity) throws SQLException {
+		Table table = entity.getAnnotation(Table.class);
+		assertThat(table.indexes()).as(entity.getSimpleName() + " 인덱스 선언").isNotEmpty();
+		for (Index index : table.indexes()) {
+			statement.execute("CREATE INDEX " + index.name() + " ON " + table.name() + " (" + index.columnList() + ")");
+		}
+	}
+
+	private static String explain(String sql) throws SQLException {
+		try (Statement statement = connection.createStatement();
+			 ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+			StringBuilder plan = new StringBuilder();
+			while (resultSet.next()) {
+				plan.append(resultSet.getString(1)).append('\n');
+			}
+			return plan.toString().toUpperCase();
+		}
+	}
+}
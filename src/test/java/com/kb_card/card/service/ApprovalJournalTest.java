@@ -0,0 +1,147 @@
+package com.kb_card.card.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 승인 저널 기록/복구/세그먼트 전환/checkpoint 검증
+ * 세그먼트 크기를 64바이트로 줄여 20바이트 레코드 두 건마다 다음 세그먼트로 넘어가게 한다.
+ */
+class ApprovalJournalTest {
+
+	private static final int SEGMENT_BYTES = 64;
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void appendedRecordsAreReadBackInOrder() {
+		ApprovalJournal journal = open(4);
+
+		journal.append(payload(1));
+		journal.append(payload(2));
+
+		assertThat(journal.hasBacklog()).isTrue();
+		ApprovalJournal.Batch batch = journal.read(journal.getCheckpoint(), 10);
+		assertThat(texts(batch)).containsExactly(text(1), text(2));
+	}
+
+	@Test
+	void recoveryDiscardsTornTailAndKeepsAppending() throws IOException {
+		ApprovalJournal journal = open(256, 4);
+		journal.append(payload(1));
+		ApprovalJournal.Position end = journal.append(payload(2));
+
+		// 길이는 기록되었지만 본문/CRC 가 맞지 않는 미완료 레코드
+		try (FileChannel channel = FileChannel.open(segmentFiles().get(0), StandardOpenOption.WRITE)) {
+			ByteBuffer torn = ByteBuffer.allocate(12);
+			torn.putInt(0, 4).putInt(4, 12345).put(8, (byte) 'x');
+			channel.write(torn, end.getOffset());
+		}
+
+		ApprovalJournal reopened = open(256, 4);
+		assertThat(texts(reopened.read(reopened.getCheckpoint(), 10))).containsExactly(text(1), text(2));
+
+		reopened.append(payload(3));
+		assertThat(texts(reopened.read(reopened.getCheckpoint(), 10))).containsExactly(text(1), text(2), text(3));
+	}
+
+	@Test
+	void rolloverContinuesInNextSegment() throws IOException {
+		ApprovalJournal journal = open(8);
+		for (int i = 1; i <= 5; i++) {
+			journal.append(payload(i));
+		}
+
+		assertThat(segmentFiles()).hasSize(3);
+		ApprovalJournal.Batch batch = journal.read(journal.getCheckpoint(), 10);
+		assertThat(texts(batch)).containsExactly(text(1), text(2), text(3), text(4), text(5));
+		assertThat(batch.getNext().getSegment()).isEqualTo(2);
+	}
+
+	@Test
+	void commitPersistsCheckpointAndDeletesReplayedSegments() throws IOException {
+		ApprovalJournal journal = open(8);
+		for (int i = 1; i <= 5; i++) {
+			journal.append(payload(i));
+		}
+
+		// 앞의 세 건(세그먼트 0 전체 + 세그먼트 1 첫 건)까지 재처리
+		List<ApprovalJournal.Entry> entries = journal.read(journal.getCheckpoint(), 3).getEntries();
+		journal.commit(entries.get(2).getNext());
+
+		assertThat(segmentFiles()).hasSize(2);
+		assertThat(journal.hasBacklog()).isTrue();
+		assertThat(texts(journal.read(journal.getCheckpoint(), 10))).containsExactly(text(4), text(5));
+
+		ApprovalJournal reopened = open(8);
+		assertThat(reopened.getCheckpoint()).isEqualTo(entries.get(2).getNext());
+		ApprovalJournal.Batch rest = reopened.read(reopened.getCheckpoint(), 10);
+		assertThat(texts(rest)).containsExactly(text(4), text(5));
+
+		reopened.commit(rest.getNext());
+		assertThat(reopened.hasBacklog()).isFalse();
+		assertThat(segmentFiles()).hasSize(1);
+	}
+
+	@Test
+	void appendFailsWhenSegmentLimitIsReached() {
+		ApprovalJournal journal = open(2);
+		for (int i = 1; i <= 4; i++) {
+			journal.append(payload(i));
+		}
+
+		assertThatThrownBy(() -> journal.append(payload(5))).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void deadLetterAppendsOneLinePerRecord() throws IOException {
+		ApprovalJournal journal = open(4);
+
+		journal.deadLetter("first".getBytes(StandardCharsets.UTF_8));
+		journal.deadLetter("second".getBytes(StandardCharsets.UTF_8));
+
+		assertThat(Files.readAllLines(journal.getDeadLetterFile())).containsExactly("first", "second");
+	}
+
+	private ApprovalJournal open(int maxSegments) {
+		return open(SEGMENT_BYTES, maxSegments);
+	}
+
+	private ApprovalJournal open(int segmentBytes, int maxSegments) {
+		return new ApprovalJournal(true, directory.toString(), segmentBytes, maxSegments);
+	}
+
+	private List<Path> segmentFiles() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(path -> path.getFileName().toString().startsWith("approvals-")).sorted().toList();
+		}
+	}
+
+	private static byte[] payload(int i) {
+		return text(i).getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static String text(int i) {
+		return String.format("approval-record-%04d", i);
+	}
+
+	private static List<String> texts(ApprovalJournal.Batch batch) {
+		return batch.getEntries().stream()
+				.map(entry -> new String(entry.getPayload(), StandardCharsets.UTF_8))
+				.toList();
+	}
+}
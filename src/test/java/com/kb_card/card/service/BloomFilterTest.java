@@ -0,0 +1,81 @@
+package com.kb_card.card.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bloom filter 크기 산정과 오탐률 검증
+ */
+class BloomFilterTest {
+
+	private static final int INSERTED = 100_000;
+	private static final int PROBES = 200_000;
+
+	@Test
+	void sizesBitArrayAndHashCountFromExpectedInsertionsAndFpp() {
+		BloomFilter filter = BloomFilter.create(1_000_000, 0.01);
+
+		// m = -n ln p / (ln 2)^2 = 9,585,059 비트 (64비트 단위로 올림), k = round(m/n ln 2) = 7
+		assertThat(filter.bitCount()).isBetween(9_585_059L, 9_585_059L + 63);
+		assertThat(filter.bitCount() % 64).isZero();
+		assertThat(filter.hashCount()).isEqualTo(7);
+		assertThat(filter.sizeInBytes()).isEqualTo(filter.bitCount() / 8);
+	}
+
+	@Test
+	void neverReportsInsertedKeyAsMissing() {
+		BloomFilter filter = BloomFilter.create(INSERTED, 0.01);
+		for (int i = 0; i < INSERTED; i++) {
+			filter.put(userCi(i));
+		}
+
+		for (int i = 0; i < INSERTED; i++) {
+			assertThat(filter.mightContain(userCi(i))).as(userCi(i)).isTrue();
+		}
+	}
+
+	@Test
+	void falsePositiveRateStaysNearTargetAtExpectedLoad() {
+		assertFalsePositiveRate(0.01);
+		assertFalsePositiveRate(0.001);
+	}
+
+	@Test
+	void emptyFilterRejectsEverything() {
+		BloomFilter filter = BloomFilter.create(INSERTED, 0.01);
+
+		assertThat(filter.mightContain(userCi(1))).isFalse();
+		assertThat(filter.approximateSize()).isZero();
+		assertThat(filter.expectedFpp()).isZero();
+	}
+
+	private static void assertFalsePositiveRate(double targetFpp) {
+		BloomFilter filter = BloomFilter.create(INSERTED, targetFpp);
+		for (int i = 0; i < INSERTED; i++) {
+			filter.put(userCi(i));
+		}
+
+		int falsePositives = 0;
+		for (int i = 0; i < PROBES; i++) {
+			if (filter.mightContain(unknownCi(i))) {
+				falsePositives++;
+			}
+		}
+		double measured = (double) falsePositives / PROBES;
+
+		// 측정값은 목표의 1.5배 이내, 적재 건수 기준 예상값도 목표 근처여야 한다
+		assertThat(measured).as("measured fpp").isLessThan(targetFpp * 1.5);
+		assertThat(filter.expectedFpp()).as("expected fpp").isBetween(targetFpp * 0.5, targetFpp * 1.5);
+		// 해시 충돌로 이미 모든 비트가 켜진 키는 건수에서 빠지므로 근사값이다
+		assertThat(filter.approximateSize()).isBetween((long) (INSERTED * 0.99), (long) INSERTED);
+	}
+
+	private static String userCi(int i) {
+		return String.format("CI%012d", i);
+	}
+
+	private static String unknownCi(int i) {
+		return String.format("NX%012d", i);
+	}
+}
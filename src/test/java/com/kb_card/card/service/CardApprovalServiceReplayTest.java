@@ -0,0 +1,235 @@
+package com.kb_card.card.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kb_card.card.entity.CardTransaction;
+import com.kb_card.card.repository.CardTransactionRepository;
+import com.kb_card.common.exception.BusinessException;
+import com.kb_card.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLTransientConnectionException;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 저널 재처리 중 확정 오류(poison record)와 일시 장애 처리 검증
+ */
+class CardApprovalServiceReplayTest {
+
+	private static final String CARD_NO = "1234567812345678";
+
+	@TempDir
+	Path directory;
+
+	private final CardTransactionService cardTransactionService = mock(CardTransactionService.class);
+	private final CardTransactionRepository cardTransactionRepository = mock(CardTransactionRepository.class);
+	private final CardExistenceFilter cardExistenceFilter = mock(CardExistenceFilter.class);
+	private final CardVelocityGuard cardVelocityGuard = CardVelocityGuardTest.guard("1m:count:2");
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+	private ApprovalJournal approvalJournal;
+	private ThreadPoolTaskExecutor approvalExecutor;
+	private CardApprovalService cardApprovalService;
+
+	@BeforeEach
+	void setUp() {
+		approvalJournal = new ApprovalJournal(true, directory.toString(), 4096, 4);
+		approvalExecutor = new ThreadPoolTaskExecutor();
+		approvalExecutor.initialize();
+		cardApprovalService = new CardApprovalService(cardTransactionService, cardTransactionRepository,
+				cardExistenceFilter, cardVelocityGuard, approvalJournal, objectMapper,
+				approvalExecutor, new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(cardApprovalService, "replayBatchSize", 100);
+		ReflectionTestUtils.setField(cardApprovalService, "dbRetryDelayMs", 5000L);
+	}
+
+	@AfterEach
+	void tearDown() {
+		approvalExecutor.shutdown();
+	}
+
+	@Test
+	void deterministicFailureIsDeadLetteredAndLaterApprovalsAreReplayed() throws IOException {
+		journal("TXN1");
+		journal("TXN2");
+		journal("TXN3");
+		when(cardTransactionService.createTransaction(any(), eq("TXN2"), anyBoolean()))
+				.thenThrow(new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+						new DataIntegrityViolationException("ORA-12899: value too large for column MEMO")));
+
+		cardApprovalService.replay();
+
+		verify(cardTransactionService).createTransaction(any(), eq("TXN1"), anyBoolean());
+		verify(cardTransactionService).createTransaction(any(), eq("TXN3"), anyBoolean());
+		assertThat(approvalJournal.hasBacklog()).isFalse();
+		assertThat(Files.readString(approvalJournal.getDeadLetterFile()))
+				.contains("TXN2")
+				.contains("ORA-12899")
+				.doesNotContain("TXN1");
+	}
+
+	@Test
+	void transientFailureStopsReplayAtThatRecord() {
+		journal("TXN1");
+		journal("TXN2");
+		journal("TXN3");
+		when(cardTransactionService.createTransaction(any(), eq("TXN2"), anyBoolean()))
+				.thenThrow(new CannotCreateTransactionException("Could not open JPA EntityManager",
+						new SQLTransientConnectionException("Connection is not available, request timed out")));
+
+		cardApprovalService.replay();
+
+		verify(cardTransactionService, never()).createTransaction(any(), eq("TXN3"), anyBoolean());
+		assertThat(approvalJournal.hasBacklog()).isTrue();
+		ApprovalJournal.Batch remaining = approvalJournal.read(approvalJournal.getCheckpoint(), 10);
+		assertThat(remaining.getEntries()).hasSize(2);
+		assertThat(new String(remaining.getEntries().get(0).getPayload(), StandardCharsets.UTF_8)).contains("TXN2");
+		assertThat(approvalJournal.getDeadLetterFile()).doesNotExist();
+	}
+
+	@Test
+	void journalPathChecksAndRecordsVelocity() {
+		when(cardExistenceFilter.mightContainCardNo(any())).thenReturn(true);
+		when(cardTransactionService.generateTransactionId()).thenReturn("TXN1", "TXN2", "TXN3");
+		// DB 장애 중이라 모든 승인이 저널로 간다
+		ReflectionTestUtils.setField(cardApprovalService, "dbUnavailableUntil", Long.MAX_VALUE);
+
+		assertThat(cardApprovalService.approve(request()).isJournaled()).isTrue();
+		assertThat(cardApprovalService.approve(request()).isJournaled()).isTrue();
+		assertThatThrownBy(() -> cardApprovalService.approve(request()))
+				.isInstanceOf(BusinessException.class)
+				.extracting(e -> ((BusinessException) e).getErrorCode())
+				.isEqualTo(ErrorCode.VELOCITY_LIMIT_EXCEEDED);
+
+		assertThat(approvalJournal.read(approvalJournal.getCheckpoint(), 10).getEntries()).hasSize(2);
+		verify(cardTransactionService, never()).createTransaction(any(), any(), anyBoolean());
+	}
+
+	@Test
+	void timedOutAttemptThatCommitsLateIsCountedOnceAndNotRejected() throws Exception {
+		when(cardTransactionService.generateTransactionId()).thenReturn("TXN1");
+		// 필터는 이 카드를 모른다고 답한다 (DB 반영 시도 이후에는 다시 보지 않아야 한다)
+		when(cardExistenceFilter.mightContainCardNo(any())).thenReturn(false);
+		CountDownLatch commit = new CountDownLatch(1);
+		when(cardTransactionService.createTransaction(any(), eq("TXN1"))).thenAnswer(invocation -> {
+			commit.await();
+			// DB 반영 경로의 커밋 후 속도 집계
+			cardVelocityGuard.recordAfterCommit(CARD_NO, null, new BigDecimal("10000"), LocalDateTime.now());
+			return null;
+		});
+		ReflectionTestUtils.setField(cardApprovalService, "dbTimeoutMs", 50L);
+
+		CardApprovalService.ApprovalResult result = cardApprovalService.approve(request());
+
+		assertThat(result.isJournaled()).isTrue();
+		assertThat(result.getTransactionId()).isEqualTo("TXN1");
+		// 진행 중인 시도가 끝나기 전에는 재처리하지 않는다
+		ReflectionTestUtils.setField(cardApprovalService, "dbUnavailableUntil", 0L);
+		cardApprovalService.replay();
+		assertThat(approvalJournal.hasBacklog()).isTrue();
+
+		commit.countDown();
+		approvalExecutor.getThreadPoolExecutor().shutdown();
+		assertThat(approvalExecutor.getThreadPoolExecutor().awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+
+		// 늦게 커밋된 시도의 집계 1건만 남는다 (저널 기록 시 다시 집계했다면 2건)
+		assertVelocityCount(1);
+
+		when(cardTransactionRepository.existsByTransactionId("TXN1")).thenReturn(true);
+		cardApprovalService.replay();
+		assertThat(approvalJournal.hasBacklog()).isFalse();
+		verify(cardTransactionService, never()).createTransaction(any(), any(), anyBoolean());
+	}
+
+	@Test
+	void timedOutAttemptThatFailsIsPostedAndCountedOnceByReplay() throws Exception {
+		when(cardTransactionService.generateTransactionId()).thenReturn("TXN1");
+		CountDownLatch fail = new CountDownLatch(1);
+		when(cardTransactionService.createTransaction(any(), eq("TXN1"))).thenAnswer(invocation -> {
+			fail.await();
+			throw new CannotCreateTransactionException("Could not open JPA EntityManager");
+		});
+		ReflectionTestUtils.setField(cardApprovalService, "dbTimeoutMs", 50L);
+
+		assertThat(cardApprovalService.approve(request()).isJournaled()).isTrue();
+		fail.countDown();
+		approvalExecutor.getThreadPoolExecutor().shutdown();
+		assertThat(approvalExecutor.getThreadPoolExecutor().awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+		ReflectionTestUtils.setField(cardApprovalService, "dbUnavailableUntil", 0L);
+
+		cardApprovalService.replay();
+
+		verify(cardTransactionService).createTransaction(any(), eq("TXN1"), eq(true));
+		assertThat(approvalJournal.hasBacklog()).isFalse();
+		assertVelocityCount(1);
+	}
+
+	@Test
+	void classifiesTransientFailures() {
+		assertThat(CardApprovalService.isTransient(new CannotCreateTransactionException("pool",
+				new SQLTransientConnectionException("timeout")))).isTrue();
+		assertThat(CardApprovalService.isTransient(new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR,
+				new DataIntegrityViolationException("ORA-00001")))).isFalse();
+		assertThat(CardApprovalService.isTransient(new BusinessException(ErrorCode.ENTITY_NOT_FOUND))).isFalse();
+	}
+
+	private void journal(String transactionId) {
+		try {
+			approvalJournal.append(objectMapper.writeValueAsBytes(
+					new CardApprovalService.JournalEntry(transactionId, request(), false)));
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 1분 2건 한도에서 count 건이 집계되어 있는지 (한도 직전까지는 통과, 도달하면 거절)
+	 */
+	private void assertVelocityCount(int count) {
+		for (int i = count; i < 2; i++) {
+			assertThatCode(this::checkVelocity).doesNotThrowAnyException();
+			cardVelocityGuard.recordAfterCommit(CARD_NO, null, new BigDecimal("10000"), LocalDateTime.now());
+		}
+		assertThatThrownBy(this::checkVelocity)
+				.isInstanceOf(BusinessException.class)
+				.extracting(e -> ((BusinessException) e).getErrorCode())
+				.isEqualTo(ErrorCode.VELOCITY_LIMIT_EXCEEDED);
+	}
+
+	private void checkVelocity() {
+		cardVelocityGuard.check(CARD_NO, CardTransaction.TransactionType.APPROVAL, null, new BigDecimal("10000"));
+	}
+
+	private static CardTransactionService.CreateTransactionRequest request() {
+		CardTransactionService.CreateTransactionRequest request = new CardTransactionService.CreateTransactionRequest();
+		request.setCardNo(CARD_NO);
+		request.setAmount(new BigDecimal("10000"));
+		request.setMerchantName("테스트가맹점");
+		return request;
+	}
+}
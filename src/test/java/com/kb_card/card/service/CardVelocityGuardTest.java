@@ -0,0 +1,159 @@
+package com.kb_card.card.service;
+
+import com.kb_card.card.entity.CardTransaction;
+import com.kb_card.common.exception.BusinessException;
+import com.kb_card.common.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 버킷 링 구간 경계/교체/동시 합산과 카드번호 기준 한도 검사 검증
+ */
+class CardVelocityGuardTest {
+
+	// 1초 버킷 경계에 맞춘 기준 시각
+	private static final long T0 = 1_700_000_000_000L;
+
+	@Test
+	void ringSumsBucketsInsideWindowOnly() {
+		CardVelocityGuard.BucketRing ring = new CardVelocityGuard.BucketRing(VelocityWindow.MINUTE);
+
+		ring.add(100, T0);
+		ring.add(200, T0 + 30_000);
+
+		assertThat(ring.count(T0 + 30_000)).isEqualTo(2);
+		assertThat(ring.amount(T0 + 30_000)).isEqualTo(300);
+		// 첫 버킷은 60초가 지나면 구간에서 빠진다
+		assertThat(ring.count(T0 + 59_999)).isEqualTo(2);
+		assertThat(ring.count(T0 + 60_000)).isEqualTo(1);
+		assertThat(ring.amount(T0 + 60_000)).isEqualTo(200);
+		// 아직 오지 않은 버킷은 포함하지 않는다
+		assertThat(ring.count(T0 - 1_000)).isZero();
+	}
+
+	@Test
+	void rolloverReplacesStaleBucketInSameSlot() {
+		CardVelocityGuard.BucketRing ring = new CardVelocityGuard.BucketRing(VelocityWindow.MINUTE);
+		ring.add(100, T0);
+		ring.add(100, T0 + 500);
+
+		// 같은 슬롯의 60초 뒤 버킷
+		ring.add(700, T0 + 60_000);
+
+		assertThat(ring.count(T0 + 60_000)).isEqualTo(1);
+		assertThat(ring.amount(T0 + 60_000)).isEqualTo(700);
+
+		// 이미 밀려난 구간으로 늦게 들어온 반영은 버린다
+		ring.add(100, T0 + 10);
+		assertThat(ring.count(T0 + 60_000)).isEqualTo(1);
+		assertThat(ring.amount(T0 + 60_000)).isEqualTo(700);
+	}
+
+	@Test
+	void concurrentAddsAreNotLost() throws Exception {
+		CardVelocityGuard.BucketRing ring = new CardVelocityGuard.BucketRing(VelocityWindow.MINUTE);
+		int threads = 8;
+		int addsPerThread = 6_000;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					// 모든 스레드가 같은 순서로 60개 버킷을 새로 만들며 더한다 (버킷 생성 CAS 경합)
+					for (int i = 0; i < addsPerThread; i++) {
+						ring.add(10, T0 + (i % 60) * 1_000L);
+					}
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		long expected = (long) threads * addsPerThread;
+		assertThat(ring.count(T0 + 59_000)).isEqualTo(expected);
+		assertThat(ring.amount(T0 + 59_000)).isEqualTo(expected * 10);
+	}
+
+	@Test
+	void checkRejectsApprovalOverCountLimitPerCardNo() {
+		CardVelocityGuard guard = guard("1m:count:2");
+		LocalDateTime now = LocalDateTime.now();
+
+		guard.recordAfterCommit("1111222233334444", CardTransaction.TransactionCategory.FOOD, new BigDecimal("1000"), now);
+		assertThatCode(() -> approve(guard, "1111222233334444", "1000")).doesNotThrowAnyException();
+
+		guard.recordAfterCommit("1111222233334444", CardTransaction.TransactionCategory.FOOD, new BigDecimal("1000"), now);
+		assertThatThrownBy(() -> approve(guard, "1111222233334444", "1000"))
+				.isInstanceOf(BusinessException.class)
+				.extracting(e -> ((BusinessException) e).getErrorCode())
+				.isEqualTo(ErrorCode.VELOCITY_LIMIT_EXCEEDED);
+
+		// 다른 카드와 취소 거래는 영향 없음
+		assertThatCode(() -> approve(guard, "5555666677778888", "1000")).doesNotThrowAnyException();
+		assertThatCode(() -> guard.check("1111222233334444", CardTransaction.TransactionType.CANCEL,
+				CardTransaction.TransactionCategory.FOOD, new BigDecimal("1000"))).doesNotThrowAnyException();
+	}
+
+	@Test
+	void checkAppliesCategoryAmountRuleOnlyToThatCategory() {
+		CardVelocityGuard guard = guard("24h:FUEL:amount:100000");
+		guard.recordAfterCommit("1111222233334444", CardTransaction.TransactionCategory.FUEL,
+				new BigDecimal("90000"), LocalDateTime.now());
+
+		assertThatThrownBy(() -> guard.check("1111222233334444", CardTransaction.TransactionType.APPROVAL,
+				CardTransaction.TransactionCategory.FUEL, new BigDecimal("10000.5")))
+				.isInstanceOf(BusinessException.class);
+		assertThatCode(() -> guard.check("1111222233334444", CardTransaction.TransactionType.APPROVAL,
+				CardTransaction.TransactionCategory.FOOD, new BigDecimal("50000"))).doesNotThrowAnyException();
+	}
+
+	@Test
+	void transactionsOlderThanLongestWindowAreNotCounted() {
+		CardVelocityGuard guard = guard("24h:count:1");
+		guard.recordAfterCommit("1111222233334444", CardTransaction.TransactionCategory.FOOD,
+				new BigDecimal("1000"), LocalDateTime.now().minusHours(25));
+
+		assertThatCode(() -> approve(guard, "1111222233334444", "1000")).doesNotThrowAnyException();
+	}
+
+	@SuppressWarnings("unchecked")
+	static CardVelocityGuard guard(String... rules) {
+		ObjectProvider<VelocityRule> customRules = mock(ObjectProvider.class);
+		when(customRules.orderedStream()).thenReturn(Stream.empty());
+		CardVelocityGuard guard = new CardVelocityGuard(mock(JdbcTemplate.class), new SimpleMeterRegistry(),
+				customRules, List.of(rules), 1000);
+		ReflectionTestUtils.setField(guard, "enabled", true);
+		return guard;
+	}
+
+	private static void approve(CardVelocityGuard guard, String cardNo, String amount) {
+		guard.check(cardNo, CardTransaction.TransactionType.APPROVAL, CardTransaction.TransactionCategory.FOOD,
+				new BigDecimal(amount));
+	}
+}
@@ -0,0 +1,80 @@
+package com.kb_card.card.service;
+
+import com.kb_card.card.entity.CardTransaction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * card.velocity.rules 표기 해석과 한도 판정 검증
+ */
+class ThresholdVelocityRuleTest {
+
+	@Test
+	void parsesRuleOverAllCategories() {
+		ThresholdVelocityRule rule = ThresholdVelocityRule.parse(" 1m:count:20 ");
+
+		assertThat(rule.getName()).isEqualTo("1m:count:20");
+		assertThat(rule.getWindow()).isEqualTo(VelocityWindow.MINUTE);
+		assertThat(rule.getCategory()).isNull();
+		assertThat(rule.getMetric()).isEqualTo(ThresholdVelocityRule.Metric.COUNT);
+		assertThat(rule.getLimit()).isEqualTo(20);
+	}
+
+	@Test
+	void parsesCategoryRuleCaseInsensitively() {
+		ThresholdVelocityRule rule = ThresholdVelocityRule.parse("24H:fuel:AMOUNT:500000");
+
+		assertThat(rule.getWindow()).isEqualTo(VelocityWindow.DAY);
+		assertThat(rule.getCategory()).isEqualTo(CardTransaction.TransactionCategory.FUEL);
+		assertThat(rule.getMetric()).isEqualTo(ThresholdVelocityRule.Metric.AMOUNT);
+		assertThat(rule.getLimit()).isEqualTo(500_000);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"1m:count", "1m:FUEL:count:1:2", "2m:count:1", "1m:speed:1", "1m:BOOKS:count:1", "1m:count:abc"})
+	void rejectsInvalidSpec(String spec) {
+		assertThatThrownBy(() -> ThresholdVelocityRule.parse(spec)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void countRuleIncludesCurrentApproval() {
+		ThresholdVelocityRule rule = ThresholdVelocityRule.parse("1h:count:3");
+
+		assertThat(rule.isExceeded(stats(2, 0), CardTransaction.TransactionCategory.FOOD, 1000)).isFalse();
+		assertThat(rule.isExceeded(stats(3, 0), CardTransaction.TransactionCategory.FOOD, 1000)).isTrue();
+	}
+
+	@Test
+	void amountRuleAddsCurrentAmount() {
+		ThresholdVelocityRule rule = ThresholdVelocityRule.parse("24h:amount:100000");
+
+		assertThat(rule.isExceeded(stats(5, 90_000), CardTransaction.TransactionCategory.FOOD, 10_000)).isFalse();
+		assertThat(rule.isExceeded(stats(5, 90_000), CardTransaction.TransactionCategory.FOOD, 10_001)).isTrue();
+	}
+
+	@Test
+	void categoryRuleIgnoresOtherCategories() {
+		ThresholdVelocityRule rule = ThresholdVelocityRule.parse("1m:FUEL:count:1");
+
+		assertThat(rule.isExceeded(stats(10, 0), CardTransaction.TransactionCategory.FOOD, 1000)).isFalse();
+		assertThat(rule.isExceeded(stats(1, 0), CardTransaction.TransactionCategory.FUEL, 1000)).isTrue();
+	}
+
+	private static VelocityRule.Stats stats(long count, long amount) {
+		return new VelocityRule.Stats() {
+			@Override
+			public long count(VelocityWindow window, CardTransaction.TransactionCategory category) {
+				return count;
+			}
+
+			@Override
+			public long amount(VelocityWindow window, CardTransaction.TransactionCategory category) {
+				return amount;
+			}
+		};
+	}
+}
@@ -0,0 +1,174 @@
+package com.kb_card.common.id;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Snowflake ID 단조 증가/동시 유일성/시퀀스 초과/시계 역행/36진수 고정폭 검증
+ * 시계는 주입할 수 없으므로 마지막 발급 상태(state)를 미래 시각으로 맞춰 같은 ms 초과와 시계 역행을 재현한다.
+ */
+class SnowflakeIdGeneratorTest {
+
+	private static final long NODE_ID = 5;
+	private static final int SEQUENCE_BITS = 12;
+	private static final int NODE_BITS = 10;
+
+	@Test
+	void idsIncreaseMonotonicallyAndCarryNodeId() {
+		SnowflakeIdGenerator generator = new SnowflakeIdGenerator(NODE_ID);
+
+		long previous = generator.nextId();
+		for (int i = 0; i < 100_000; i++) {
+			long id = generator.nextId();
+			assertThat(id).isGreaterThan(previous);
+			assertThat(nodeId(id)).isEqualTo(NODE_ID);
+			previous = id;
+		}
+		assertThat(previous).isPositive();
+	}
+
+	@Test
+	void concurrentIdsAreUniqueAndIncreasingPerThread() throws Exception {
+		SnowflakeIdGenerator generator = new SnowflakeIdGenerator(NODE_ID);
+		int threads = 8;
+		int idsPerThread = 50_000;
+		Set<Long> ids = ConcurrentHashMap.newKeySet();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<Boolean>> futures = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					boolean increasing = true;
+					long previous = 0;
+					for (int i = 0; i < idsPerThread; i++) {
+						long id = generator.nextId();
+						increasing &= id > previous;
+						ids.add(id);
+						previous = id;
+					}
+					return increasing;
+				}));
+			}
+			start.countDown();
+			for (Future<Boolean> future : futures) {
+				assertThat(future.get()).isTrue();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(ids).hasSize(threads * idsPerThread);
+	}
+
+	@Test
+	void sequenceOverflowWithinOneMillisecondMovesToNextMillisecond() {
+		SnowflakeIdGenerator generator = new SnowflakeIdGenerator(NODE_ID);
+		// 현재 시각보다 앞선 ms 에서 시퀀스 4095 까지 이미 발급된 상태
+		long timestamp = currentTimestamp() + 60_000;
+		state(generator).set(timestamp << SEQUENCE_BITS | 4094);
+
+		long last = generator.nextId();
+		long overflow = generator.nextId();
+
+		assertThat(timestamp(last)).isEqualTo(timestamp);
+		assertThat(sequence(last)).isEqualTo(4095);
+		assertThat(timestamp(overflow)).isEqualTo(timestamp + 1);
+		assertThat(sequence(overflow)).isZero();
+		assertThat(overflow).isGreaterThan(last);
+	}
+
+	@Test
+	void clockMovingBackwardsKeepsLogicalTimeAndIncreasingIds() {
+		SnowflakeIdGenerator generator = new SnowflakeIdGenerator(NODE_ID);
+		long before = generator.nextId();
+		// 시계가 10초 뒤로 간 것과 같음: 마지막 발급 시각이 현재보다 10초 앞서 있다
+		long timestamp = currentTimestamp() + 10_000;
+		state(generator).set(timestamp << SEQUENCE_BITS);
+
+		long previous = (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (NODE_ID << SEQUENCE_BITS);
+		assertThat(previous).isGreaterThan(before);
+		for (int i = 1; i <= 10; i++) {
+			long id = generator.nextId();
+			assertThat(id).isGreaterThan(previous);
+			assertThat(timestamp(id)).isEqualTo(timestamp);
+			assertThat(sequence(id)).isEqualTo(i);
+			previous = id;
+		}
+	}
+
+	@Test
+	void encodesFixedWidthBase36AfterPrefix() {
+		SnowflakeIdGenerator generator = new SnowflakeIdGenerator(NODE_ID);
+
+		String previous = "";
+		for (int i = 0; i < 1_000; i++) {
+			String id = generator.nextId("TX");
+			assertThat(id).hasSize(2 + SnowflakeIdGenerator.ENCODED_LENGTH)
+					.startsWith("TX")
+					.matches("TX[0-9A-Z]{13}");
+			// 고정폭이므로 문자열 순서와 발급 순서가 같다
+			assertThat(id).isGreaterThan(previous);
+			assertThat(nodeId(Long.parseLong(id.substring(2), 36))).isEqualTo(NODE_ID);
+			previous = id;
+		}
+	}
+
+	@Test
+	void padsEncodedIdToRequestedLength() {
+		SnowflakeIdGenerator generator = new SnowflakeIdGenerator(NODE_ID);
+
+		String id = generator.nextId("APV", 20);
+
+		assertThat(id).hasSize(20).startsWith("APV0000");
+		assertThat(nodeId(Long.parseLong(id.substring(3), 36))).isEqualTo(NODE_ID);
+	}
+
+	@Test
+	void rejectsLengthThatCannotHoldEncodedId() {
+		SnowflakeIdGenerator generator = new SnowflakeIdGenerator(NODE_ID);
+
+		assertThatThrownBy(() -> generator.nextId("TX", 2 + SnowflakeIdGenerator.ENCODED_LENGTH - 1))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void rejectsNodeIdOutOfRange() {
+		assertThatThrownBy(() -> new SnowflakeIdGenerator(-1)).isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new SnowflakeIdGenerator(1L << NODE_BITS)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static AtomicLong state(SnowflakeIdGenerator generator) {
+		return (AtomicLong) ReflectionTestUtils.getField(generator, "state");
+	}
+
+	private static long currentTimestamp() {
+		return System.currentTimeMillis() - SnowflakeIdGenerator.EPOCH_MILLIS;
+	}
+
+	private static long timestamp(long id) {
+		return id >>> (NODE_BITS + SEQUENCE_BITS);
+	}
+
+	private static long nodeId(long id) {
+		return (id >>> SEQUENCE_BITS) & ((1L << NODE_BITS) - 1);
+	}
+
+	private static long sequence(long id) {
+		return id & ((1L << SEQUENCE_BITS) - 1);
+	}
+}
@@ -0,0 +1,201 @@
+package com.kb_card.common.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * bankTranId 기준 응답 재사용 검증 (동시 중복 요청 합치기, TTL 이후 재실행, 999 응답 미저장, 비동기 본문 읽기)
+ */
+class KftcIdempotencyFilterTest {
+
+	private static final String URI = "/v2.0/cards/list";
+	private static final String BODY = "{\"bank_tran_id\":\"F123456789U4BC34239Z\",\"user_ci\":\"CI0001\"}";
+	private static final String OK_RESPONSE = "{\"bank_rsp_code\":\"000\",\"card_cnt\":\"1\"}";
+	private static final String SYSTEM_ERROR_RESPONSE = "{\"bank_rsp_code\":\"999\"}";
+
+	private final AtomicInteger executions = new AtomicInteger();
+
+	@Test
+	void concurrentDuplicateRequestsExecuteOnceAndShareResponse() throws Exception {
+		KftcIdempotencyFilter filter = filter(600);
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		FilterChain chain = (request, response) -> {
+			executions.incrementAndGet();
+			entered.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			writeJson((HttpServletResponse) response, OK_RESPONSE);
+		};
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<MockHttpServletResponse> first = executor.submit(() -> execute(filter, chain));
+			assertThat(entered.await(1, TimeUnit.SECONDS)).isTrue();
+			Future<MockHttpServletResponse> duplicate = executor.submit(() -> execute(filter, chain));
+
+			// 먼저 들어온 요청이 끝날 때까지 중복 요청은 기다린다
+			Thread.sleep(100);
+			assertThat(duplicate.isDone()).isFalse();
+			release.countDown();
+
+			MockHttpServletResponse firstResponse = first.get(1, TimeUnit.SECONDS);
+			MockHttpServletResponse duplicateResponse = duplicate.get(1, TimeUnit.SECONDS);
+
+			assertThat(executions).hasValue(1);
+			assertThat(firstResponse.getContentAsString()).isEqualTo(OK_RESPONSE);
+			assertThat(firstResponse.getHeader("X-Idempotent-Replay")).isNull();
+			assertThat(duplicateResponse.getStatus()).isEqualTo(200);
+			assertThat(duplicateResponse.getContentAsString()).isEqualTo(OK_RESPONSE);
+			assertThat(duplicateResponse.getHeader("X-Idempotent-Replay")).isEqualTo("true");
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void storedResponseIsReplayedUntilTtlExpires() throws Exception {
+		KftcIdempotencyFilter filter = filter(1);
+		FilterChain chain = okChain();
+
+		execute(filter, chain);
+		MockHttpServletResponse replayed = execute(filter, chain);
+		assertThat(executions).hasValue(1);
+		assertThat(replayed.getHeader("X-Idempotent-Replay")).isEqualTo("true");
+
+		Thread.sleep(1_200);
+		MockHttpServletResponse afterTtl = execute(filter, chain);
+		assertThat(executions).hasValue(2);
+		assertThat(afterTtl.getHeader("X-Idempotent-Replay")).isNull();
+		assertThat(afterTtl.getContentAsString()).isEqualTo(OK_RESPONSE);
+	}
+
+	@Test
+	void systemErrorResponseIsNotStored() throws Exception {
+		KftcIdempotencyFilter filter = filter(600);
+		FilterChain chain = (request, response) -> {
+			executions.incrementAndGet();
+			writeJson((HttpServletResponse) response, SYSTEM_ERROR_RESPONSE);
+		};
+
+		execute(filter, chain);
+		MockHttpServletResponse retried = execute(filter, chain);
+
+		assertThat(executions).hasValue(2);
+		assertThat(retried.getHeader("X-Idempotent-Replay")).isNull();
+		assertThat(retried.getContentAsString()).isEqualTo(SYSTEM_ERROR_RESPONSE);
+	}
+
+	@Test
+	void differentBodyWithSameBankTranIdIsExecutedSeparately() throws Exception {
+		KftcIdempotencyFilter filter = filter(600);
+		FilterChain chain = okChain();
+
+		execute(filter, chain);
+		MockHttpServletRequest other = request(BODY.replace("CI0001", "CI0002"));
+		filter.doFilter(other, new MockHttpServletResponse(), chain);
+
+		assertThat(executions).hasValue(2);
+	}
+
+	@Test
+	void bufferedBodySupportsReadListener() throws Exception {
+		KftcIdempotencyFilter filter = filter(600);
+		List<String> events = new ArrayList<>();
+		ByteArrayOutputStream read = new ByteArrayOutputStream();
+		FilterChain chain = (request, response) -> {
+			ServletInputStream input = request.getInputStream();
+			input.setReadListener(new ReadListener() {
+				@Override
+				public void onDataAvailable() throws IOException {
+					events.add("data");
+					byte[] buffer = new byte[16];
+					while (input.isReady() && !input.isFinished()) {
+						int length = input.read(buffer);
+						read.write(buffer, 0, length);
+					}
+				}
+
+				@Override
+				public void onAllDataRead() {
+					events.add("done");
+				}
+
+				@Override
+				public void onError(Throwable t) {
+					events.add("error");
+				}
+			});
+			writeJson((HttpServletResponse) response, OK_RESPONSE);
+		};
+
+		execute(filter, chain);
+
+		assertThat(events).containsExactly("data", "done");
+		assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+	}
+
+	private FilterChain okChain() {
+		return (request, response) -> {
+			executions.incrementAndGet();
+			writeJson((HttpServletResponse) response, OK_RESPONSE);
+		};
+	}
+
+	private static KftcIdempotencyFilter filter(long ttlSeconds) {
+		KftcIdempotencyFilter filter = new KftcIdempotencyFilter(new ObjectMapper(), new SimpleMeterRegistry(),
+				100, ttlSeconds);
+		ReflectionTestUtils.setField(filter, "enabled", true);
+		ReflectionTestUtils.setField(filter, "paths", Set.of(URI));
+		ReflectionTestUtils.setField(filter, "waitTimeoutMs", 5_000L);
+		return filter;
+	}
+
+	private static MockHttpServletResponse execute(KftcIdempotencyFilter filter, FilterChain chain) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request(BODY), response, chain);
+		return response;
+	}
+
+	private static MockHttpServletRequest request(String body) {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", URI);
+		request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+		request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		request.setContent(body.getBytes(StandardCharsets.UTF_8));
+		return request;
+	}
+
+	private static void writeJson(HttpServletResponse response, String json) throws IOException {
+		response.setStatus(200);
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.getOutputStream().write(json.getBytes(StandardCharsets.UTF_8));
+	}
+}